@@ -0,0 +1,50 @@
+--
+-- Full-text / trigram search benchmark on a synthetic table of one million swift codes.
+-- Requires db/init/init_search.sql to have been applied. Run against a local database:
+--   psql -U myuser -d mydatabase -f db/benchmark/search_benchmark.sql
+-- The synthetic rows use swift codes starting with 'ZZ' and are removed at the end.
+--
+
+\timing on
+
+INSERT INTO public.swift_codes (id, address, bank_name, countryiso2, country_name, is_deleted, is_headquarter, swift_code)
+SELECT gen_random_uuid(),
+       (ARRAY['MARSZALKOWSKA', 'ELIZABETES STREET', 'HAUPTSTRASSE', 'RUE DE RIVOLI', 'VIA ROMA'])[1 + n % 5]
+           || ' ' || (n % 997) || ' ' || (ARRAY['WARSZAWA', 'RIGA', 'BERLIN', 'PARIS', 'ROMA'])[1 + n % 5],
+       (ARRAY['PKO BANK POLSKI', 'INDEXO BANKA', 'DEUTSCHE BANK', 'BNP PARIBAS', 'INTESA SANPAOLO'])[1 + n % 5]
+           || ' ' || md5(n::text)::varchar(6),
+       (ARRAY['PL', 'LV', 'DE', 'FR', 'IT'])[1 + n % 5],
+       (ARRAY['POLAND', 'LATVIA', 'GERMANY', 'FRANCE', 'ITALY'])[1 + n % 5],
+       false,
+       n % 10 = 0,
+       'ZZ' || lpad(to_hex(n), 9, '0')
+FROM generate_series(1, 1000000) AS n;
+
+ANALYZE public.swift_codes;
+
+-- full-text search, expected plan: Bitmap Index Scan on idx_swift_codes_search_vector
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.swift_code, ts_rank(s.search_vector, q.query) AS score
+FROM public.swift_codes s
+CROSS JOIN websearch_to_tsquery('simple', 'paribas rivoli 42') AS q(query)
+WHERE s.search_vector @@ q.query AND s.is_deleted = false
+ORDER BY score DESC, s.swift_code
+LIMIT 20;
+
+-- trigram similarity, expected plan: Bitmap Index Scan on idx_swift_codes_bank_name_trgm
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.swift_code, similarity(s.bank_name, 'PKO BANK POLSKY 1679') AS score
+FROM public.swift_codes s
+WHERE s.bank_name % 'PKO BANK POLSKY 1679' AND s.is_deleted = false
+ORDER BY score DESC, s.swift_code
+LIMIT 20;
+
+-- baseline for comparison: substring scan without an index
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.swift_code
+FROM public.swift_codes s
+WHERE (s.bank_name || ' ' || s.address) ILIKE '%paribas%rivoli 42%' AND s.is_deleted = false
+LIMIT 20;
+
+DELETE FROM public.swift_codes WHERE swift_code LIKE 'ZZ%';
+VACUUM ANALYZE public.swift_codes;
@@ -38,7 +38,8 @@ CREATE TABLE public.swift_codes (
     is_headquarter boolean NOT NULL,
     swift_code character varying(255) NOT NULL,
     country_id bigint,
-    headquarter_id uuid
+    headquarter_id uuid,
+    content_hash bigint
 );
 
 
@@ -1131,6 +1132,13 @@ ALTER TABLE ONLY public.swift_codes
     ADD CONSTRAINT uk2ese3ys87080pnwych0n6bke5 UNIQUE (swift_code);
 
 
+--
+-- Name: idx_swift_codes_country_swift_code; Type: INDEX; Schema: public; Owner: myuser
+--
+
+CREATE INDEX idx_swift_codes_country_swift_code ON public.swift_codes USING btree (countryiso2, swift_code);
+
+
 --
 -- TOC entry 3216 (class 2606 OID 24602)
 -- Name: swift_codes fkgwfrenrxscqo2jlpnwubqk0y9; Type: FK CONSTRAINT; Schema: public; Owner: myuser
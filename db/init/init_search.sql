@@ -0,0 +1,19 @@
+--
+-- Full-text and similarity search over swift_codes.
+-- Runs after init.sql on a fresh container and is idempotent, so it can also be applied to an
+-- existing database with: psql -U myuser -d mydatabase -f db/init/init_search.sql
+--
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE public.swift_codes
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', bank_name || ' ' || address || ' ' || country_name)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_swift_codes_search_vector
+    ON public.swift_codes USING gin (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_swift_codes_bank_name_trgm
+    ON public.swift_codes USING gin (bank_name gin_trgm_ops);
+
+ANALYZE public.swift_codes;
@@ -0,0 +1,62 @@
+package com.remitly.benchmark;
+
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Synthetic rows shaped like the provided dataset, shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static String[] cells(String swiftCode) {
+        return new String[]{"PL", swiftCode, "BIC11", "PKO BANK POLSKI S.A.",
+                "PULAWSKA 15 WARSZAWA, MAZOWIECKIE, 02-515", "WARSZAWA", "POLAND", "Europe/Warsaw"};
+    }
+
+    static SwiftCode headquarterWithBranches(int branches) {
+        SwiftCode headquarter = swiftCode("BPKOPLPWXXX", true);
+        for (int i = 0; i < branches; i++) {
+            SwiftCode branch = swiftCode(String.format("BPKOPLPW%03d", i), false);
+            branch.setHeadquarterId(headquarter);
+            headquarter.addBranch(branch);
+        }
+        return headquarter;
+    }
+
+    static List<SwiftCodeView> countryViews(int size) {
+        List<SwiftCodeView> views = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean isHeadquarter = i % 10 == 0;
+            String prefix = String.format("BANK%04d", i / 10);
+            views.add(new SwiftCodeView(
+                    prefix + (isHeadquarter ? "XXX" : String.format("%03d", i % 10)),
+                    "PULAWSKA 15 WARSZAWA, MAZOWIECKIE, 02-515",
+                    "PKO BANK POLSKI S.A.",
+                    "PL",
+                    "POLAND",
+                    isHeadquarter,
+                    isHeadquarter ? null : prefix + "XXX"
+            ));
+        }
+        return views;
+    }
+
+    private static SwiftCode swiftCode(String code, boolean isHeadquarter) {
+        return SwiftCode.builder()
+                .id(UUID.randomUUID())
+                .swiftCode(code)
+                .address("PULAWSKA 15 WARSZAWA, MAZOWIECKIE, 02-515")
+                .bankName("PKO BANK POLSKI S.A.")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(isHeadquarter)
+                .build();
+    }
+}
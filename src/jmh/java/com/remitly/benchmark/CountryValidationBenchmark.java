@@ -0,0 +1,47 @@
+package com.remitly.benchmark;
+
+import com.remitly.service.country.CountryRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ISO2/country name validation through {@link CountryRegistry}, against the former scan over
+ * {@link Locale#getISOCountries()} as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CountryValidationBenchmark {
+
+    @Param({"PL:POLAND", "ZW:ZIMBABWE", "PL:ENGLAND"})
+    private String combination;
+
+    private String countryISO2;
+    private String countryName;
+    private CountryRegistry countryRegistry;
+
+    @Setup
+    public void setUp() {
+        countryISO2 = combination.substring(0, 2);
+        countryName = combination.substring(3);
+        countryRegistry = new CountryRegistry(null, "CZ=CZECH REPUBLIC;CZ=CZECHIA");
+    }
+
+    @Benchmark
+    public boolean registry() {
+        return countryRegistry.matches(countryISO2, countryName);
+    }
+
+    @Benchmark
+    public boolean localeScan() {
+        for (String iso : Locale.getISOCountries()) {
+            if (iso.equalsIgnoreCase(countryISO2)) {
+                Locale locale = new Locale.Builder().setRegion(iso).build();
+                return locale.getDisplayCountry(Locale.ENGLISH).equalsIgnoreCase(countryName);
+            }
+        }
+        return false;
+    }
+}
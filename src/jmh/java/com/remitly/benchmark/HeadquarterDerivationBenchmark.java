@@ -0,0 +1,44 @@
+package com.remitly.benchmark;
+
+import com.remitly.dao.model.swift_code.Bic;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deriving the headquarter of a branch code: string slicing against the packed {@link Bic} forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HeadquarterDerivationBenchmark {
+
+    private String code;
+    private Bic bic;
+
+    @Setup
+    public void setUp() {
+        code = "BPKOPLPWWA1";
+        bic = Bic.parse(code);
+    }
+
+    @Benchmark
+    public String substringConcat() {
+        return code.substring(0, 8) + "XXX";
+    }
+
+    @Benchmark
+    public String bicHeadquarterCode() {
+        return Bic.headquarterCode(code);
+    }
+
+    @Benchmark
+    public long packedInstitutionPrefix() {
+        return Bic.institutionPrefix(code);
+    }
+
+    @Benchmark
+    public boolean parsedIsHeadquarter() {
+        return bic.headquarterCode().isHeadquarter();
+    }
+}
@@ -0,0 +1,47 @@
+package com.remitly.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization with an {@link ObjectMapper} configured like the one Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"10"})
+    private int branches;
+
+    @Param({"500"})
+    private int countrySize;
+
+    private ObjectMapper objectMapper;
+    private SwiftCodeDTO swiftCode;
+    private SwiftCodesCountryISO2DTO country;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        swiftCode = SwiftCodeMapper.map(BenchmarkData.headquarterWithBranches(branches));
+        country = SwiftCodeMapper.map(BenchmarkData.countryViews(countrySize));
+    }
+
+    @Benchmark
+    public byte[] swiftCode() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(swiftCode);
+    }
+
+    @Benchmark
+    public byte[] country() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(country);
+    }
+}
@@ -0,0 +1,70 @@
+package com.remitly.benchmark;
+
+import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwiftCodeMapperBenchmark {
+
+    @Param({"10"})
+    private int branches;
+
+    @Param({"500"})
+    private int countrySize;
+
+    private SwiftCode headquarter;
+    private List<SwiftCodeView> country;
+    private XSSFWorkbook workbook;
+    private Row row;
+    private String[] cells;
+
+    @Setup
+    public void setUp() {
+        headquarter = BenchmarkData.headquarterWithBranches(branches);
+        country = BenchmarkData.countryViews(countrySize);
+
+        cells = BenchmarkData.cells("AAISALTRXXX");
+        workbook = new XSSFWorkbook();
+        row = workbook.createSheet().createRow(0);
+        for (int column = 0; column < cells.length; column++) {
+            row.createCell(column).setCellValue(cells[column]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public SwiftCodeDTO mapEntityWithBranches() {
+        return SwiftCodeMapper.map(headquarter);
+    }
+
+    @Benchmark
+    public SwiftCodesCountryISO2DTO mapCountryViews() {
+        return SwiftCodeMapper.map(country);
+    }
+
+    @Benchmark
+    public SwiftCode mapExcelRow() {
+        return SwiftCodeMapper.map(row);
+    }
+
+    @Benchmark
+    public SwiftCode mapStreamedCells() {
+        return SwiftCodeMapper.map(cells);
+    }
+}
@@ -1,18 +1,25 @@
 package com.remitly.controller.exception;
 
+import com.remitly.controller.exception.import_job.ImportJobNotFoundException;
 import com.remitly.controller.exception.swift_code.SwiftCodeAlreadyExistsException;
 import com.remitly.controller.exception.swift_code.SwiftCodeNotFoundException;
 import com.remitly.controller.exception.swift_code.SwiftCodeValidationException;
+import com.remitly.service.swift_code.metrics.SwiftCodeMetrics;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final SwiftCodeMetrics swiftCodeMetrics;
+
     @ExceptionHandler(SwiftCodeNotFoundException.class)
     public ResponseEntity<ExceptionResponseDTO> handleSwiftCodeNotFoundException(SwiftCodeNotFoundException ex) {
+        swiftCodeMetrics.recordError("not_found", ex);
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(createResponse(HttpStatus.NOT_FOUND, ex));
@@ -20,6 +27,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(SwiftCodeAlreadyExistsException.class)
     public ResponseEntity<ExceptionResponseDTO> handleSwiftCodeAlreadyExistsException(SwiftCodeAlreadyExistsException ex) {
+        swiftCodeMetrics.recordError("conflict", ex);
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .body(createResponse(HttpStatus.CONFLICT, ex));
@@ -27,11 +35,20 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(SwiftCodeValidationException.class)
     public ResponseEntity<ExceptionResponseDTO> handleSwiftCodeValidationException(SwiftCodeValidationException ex) {
+        swiftCodeMetrics.recordError("validation", ex);
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(createResponse(HttpStatus.BAD_REQUEST, ex));
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ExceptionResponseDTO> handleImportJobNotFoundException(ImportJobNotFoundException ex) {
+        swiftCodeMetrics.recordError("not_found", ex);
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(createResponse(HttpStatus.NOT_FOUND, ex));
+    }
+
     private ExceptionResponseDTO createResponse(HttpStatus status, Exception exception) {
         return ExceptionResponseDTO.builder()
                 .status(status.value())
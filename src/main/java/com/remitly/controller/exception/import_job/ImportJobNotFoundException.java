@@ -0,0 +1,7 @@
+package com.remitly.controller.exception.import_job;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,16 +1,28 @@
 package com.remitly.controller.swift_code.controller;
 
 import com.remitly.controller.swift_code.dto.ResponseMessageDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBranchDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkCreateDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
-import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
-import com.remitly.service.parser.ExcelParserService;
+import com.remitly.controller.swift_code.dto.SwiftCodeLookupDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeLookupRequestDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeSearchResultDTO;
 import com.remitly.service.swift_code.SwiftCodeService;
+import com.remitly.service.swift_code.export.SwiftCodeExportService;
+import com.remitly.service.swift_code.search.TextSearchMode;
+import com.remitly.service.swift_code.version.SwiftCodeVersions;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -18,23 +30,128 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class SwiftCodeController {
 
-    /*private final ExcelParserService excelParserService;*/
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final String NDJSON_TAG_SUFFIX = "-ndjson";
+
     private final SwiftCodeService swiftCodeService;
+    private final SwiftCodeExportService swiftCodeExportService;
+    private final SwiftCodeVersions swiftCodeVersions;
+
+    @GetMapping("/search")
+    public ResponseEntity<List<SwiftCodeBranchDTO>> searchSwiftCodesByPrefix(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            WebRequest request
+    ) {
+        log.info("Received a request to search swift codes by prefix: {}", prefix);
+        if (request.checkNotModified(swiftCodeVersions.datasetTag())) {
+            return null;
+        }
+        return ResponseEntity.ok(swiftCodeService.searchSwiftCodesByPrefix(prefix, limit));
+    }
+
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<List<SwiftCodeSearchResultDTO>> searchSwiftCodesByName(
+            @RequestParam("query") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            WebRequest request
+    ) {
+        log.info("Received a request to search swift codes by bank name or address: {}", query);
+        if (request.checkNotModified(swiftCodeVersions.datasetTag())) {
+            return null;
+        }
+        return ResponseEntity.ok(swiftCodeService.searchSwiftCodesByName(query, limit));
+    }
+
+    @GetMapping("/search/text")
+    public ResponseEntity<List<SwiftCodeSearchResultDTO>> searchSwiftCodesByText(
+            @RequestParam("query") String query,
+            @RequestParam(value = "mode", defaultValue = "FULL_TEXT") TextSearchMode mode,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            WebRequest request
+    ) {
+        log.info("Received a request to search swift codes by text: {}", query);
+        if (request.checkNotModified(swiftCodeVersions.datasetTag())) {
+            return null;
+        }
+        return ResponseEntity.ok(swiftCodeService.searchSwiftCodesByText(query, mode, page, size));
+    }
 
     @GetMapping("/{swift-code}")
     public ResponseEntity<SwiftCodeDTO> getSwiftCode(
-            @PathVariable("swift-code") String swiftCode
+            @PathVariable("swift-code") String swiftCode,
+            WebRequest request
     ) {
         log.info("Received a request to get a swift code: {}", swiftCode);
-        return ResponseEntity.ok(swiftCodeService.getSwiftCode(swiftCode));
+        String code = swiftCode.trim().toUpperCase();
+        // unknown codes stay 404 whatever If-None-Match the client sends
+        String tag = swiftCodeVersions.swiftCodeTag(code);
+        if (swiftCodeService.existsSwiftCode(code) && request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(swiftCodeService.getSwiftCode(code));
     }
 
     @GetMapping("/country/{countryISO2code}")
-    public ResponseEntity<SwiftCodesCountryISO2DTO> getAllSwiftCodesByCountryISO2code(
-            @PathVariable("countryISO2code") String countryISO2code
+    public ResponseEntity<?> getAllSwiftCodesByCountryISO2code(
+            @PathVariable("countryISO2code") String countryISO2code,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            WebRequest request,
+            HttpServletResponse response
     ) {
         log.info("Received a request to get all swift codes by countryISO2code: {}", countryISO2code);
-        return ResponseEntity.ok(swiftCodeService.getAllSwiftCodesByCountryISO2code(countryISO2code.toUpperCase()));
+        String countryISO2 = countryISO2code.toUpperCase();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (request.checkNotModified(swiftCodeVersions.countryTag(countryISO2))) {
+            return null;
+        }
+        if (limit != null || cursor != null) {
+            return ResponseEntity.ok(swiftCodeService.getSwiftCodesPageByCountryISO2code(
+                    countryISO2, limit != null ? limit : DEFAULT_PAGE_SIZE, cursor));
+        }
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(swiftCodeService.getAllSwiftCodesByCountryISO2codeAsJson(countryISO2));
+    }
+
+    @GetMapping(value = "/country/{countryISO2code}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSwiftCodesByCountryISO2code(
+            @PathVariable("countryISO2code") String countryISO2code,
+            WebRequest request,
+            HttpServletResponse response
+    ) {
+        log.info("Received a request to stream swift codes by countryISO2code: {}", countryISO2code);
+        String countryISO2 = countryISO2code.toUpperCase();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        // same URL as the JSON list, so the NDJSON representation needs its own tag
+        if (request.checkNotModified(swiftCodeVersions.countryTag(countryISO2) + NDJSON_TAG_SUFFIX)) {
+            return null;
+        }
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> swiftCodeExportService.writeByCountryISO2code(countryISO2, outputStream));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSwiftCodes(WebRequest request) {
+        log.info("Received a request to export all swift codes");
+        if (request.checkNotModified(swiftCodeVersions.datasetTag())) {
+            return null;
+        }
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(swiftCodeExportService::writeAll);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<SwiftCodeLookupDTO> lookupSwiftCodes(@RequestBody SwiftCodeLookupRequestDTO request) {
+        log.info("Received a request to look up swift codes");
+        return ResponseEntity.ok(swiftCodeService.lookupSwiftCodes(request.getSwiftCodes()));
     }
 
     @PostMapping
@@ -46,6 +163,12 @@ public class SwiftCodeController {
                 .body(swiftCodeService.createSwiftCode(request));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<SwiftCodeBulkCreateDTO> createSwiftCodes(@RequestBody List<SwiftCodeDTO> request) {
+        log.info("Received a request to create {} swift codes", request.size());
+        return ResponseEntity.ok(swiftCodeService.createSwiftCodes(request));
+    }
+
     @DeleteMapping("/{swift-code}")
     public ResponseEntity<ResponseMessageDTO> deleteSwiftCode(
             @PathVariable("swift-code") String swiftCode
@@ -53,13 +176,4 @@ public class SwiftCodeController {
         log.info("Received a request to delete a swift code: {}", swiftCode);
         return ResponseEntity.ok(swiftCodeService.deleteSwiftCode(swiftCode));
     }
-
-    /*@PostMapping("/parser")
-    public ResponseEntity<String> parseExcelFile() {
-        log.info("Received request to parse excel file");
-        excelParserService.parseFile();
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body("successfully parsed and saved data to database :)");
-    }*/
 }
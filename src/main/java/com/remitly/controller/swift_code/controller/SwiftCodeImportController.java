@@ -0,0 +1,45 @@
+package com.remitly.controller.swift_code.controller;
+
+import com.remitly.controller.swift_code.dto.ImportJobDTO;
+import com.remitly.controller.swift_code.mapper.ImportJobMapper;
+import com.remitly.service.parser.ImportJob;
+import com.remitly.service.parser.ImportJobService;
+import com.remitly.service.parser.ImportMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/swift-codes/imports")
+@RequiredArgsConstructor
+public class SwiftCodeImportController {
+
+    private final ImportJobService importJobService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDTO> createImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "mode", defaultValue = "FULL") ImportMode mode
+    ) {
+        log.info("Received a request to {} import file: {}", mode, file.getOriginalFilename());
+        ImportJob job = importJobService.submit(file, mode);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/v1/swift-codes/imports/" + job.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ImportJobMapper.map(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> getImport(@PathVariable("id") UUID id) {
+        log.info("Received a request to get import job: {}", id);
+        return ResponseEntity.ok(ImportJobMapper.map(importJobService.getJob(id)));
+    }
+}
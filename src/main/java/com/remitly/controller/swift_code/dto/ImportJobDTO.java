@@ -0,0 +1,33 @@
+package com.remitly.controller.swift_code.dto;
+
+import com.remitly.service.parser.ImportJobState;
+import com.remitly.service.parser.ImportMode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Getter
+@Setter
+public class ImportJobDTO {
+    private UUID id;
+    private String fileName;
+    private ImportMode mode;
+    private ImportJobState state;
+    private long rowsRead;
+    private long rowsProcessed;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private Long inserted;
+    private Long updated;
+    private Long deleted;
+    private Long unchanged;
+    private List<String> errors;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,16 @@
+package com.remitly.controller.swift_code.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+public class SwiftCodeBulkCreateDTO {
+    private int created;
+    private int rejected;
+    private List<SwiftCodeBulkItemDTO> results;
+}
@@ -0,0 +1,14 @@
+package com.remitly.controller.swift_code.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+public class SwiftCodeBulkItemDTO {
+    private String swiftCode;
+    private int status;
+    private String message;
+}
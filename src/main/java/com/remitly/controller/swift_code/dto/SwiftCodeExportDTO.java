@@ -0,0 +1,24 @@
+package com.remitly.controller.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+public class SwiftCodeExportDTO {
+    private String address;
+    private String bankName;
+    private String countryISO2;
+    private String countryName;
+
+    @JsonProperty("isHeadquarter")
+    private boolean isHeadquarter;
+    private String swiftCode;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String headquarterSwiftCode;
+}
@@ -0,0 +1,15 @@
+package com.remitly.controller.swift_code.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+public class SwiftCodeLookupDTO {
+    private List<SwiftCodeDTO> found;
+    private List<String> missing;
+}
@@ -0,0 +1,13 @@
+package com.remitly.controller.swift_code.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeLookupRequestDTO {
+    private List<String> swiftCodes;
+}
@@ -1,5 +1,6 @@
 package com.remitly.controller.swift_code.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,4 +17,7 @@ public class SwiftCodesCountryISO2DTO {
 
     @Singular
     private List<SwiftCodeBranchDTO> swiftCodes;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
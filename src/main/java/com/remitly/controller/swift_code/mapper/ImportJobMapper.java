@@ -0,0 +1,53 @@
+package com.remitly.controller.swift_code.mapper;
+
+import com.remitly.controller.swift_code.dto.ImportJobDTO;
+import com.remitly.service.parser.DeltaImportSummary;
+import com.remitly.service.parser.ImportJob;
+import com.remitly.service.parser.ImportProgress;
+import com.remitly.service.parser.ImportSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportJobMapper {
+
+    public static ImportJobDTO map(ImportJob job) {
+        ImportJobDTO dto = ImportJobDTO.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .mode(job.getMode())
+                .state(job.getState())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(List.of())
+                .build();
+
+        ImportProgress progress = job.getProgress();
+        if (progress != null) {
+            List<String> errors = new ArrayList<>(progress.getRejections());
+            if (job.getError() != null) {
+                errors.add(job.getError());
+            }
+            dto.setRowsRead(progress.getRowsRead());
+            dto.setRowsProcessed(progress.getRows());
+            dto.setRowsRejected(progress.getRowsRejected());
+            dto.setRowsPerSecond(progress.getRowsPerSecond());
+            dto.setErrors(errors);
+        }
+
+        ImportSummary summary = job.getSummary();
+        if (summary != null) {
+            dto.setRowsPerSecond(summary.rowsPerSecond());
+        }
+
+        DeltaImportSummary deltaSummary = job.getDeltaSummary();
+        if (deltaSummary != null) {
+            dto.setInserted(deltaSummary.inserted());
+            dto.setUpdated(deltaSummary.updated());
+            dto.setDeleted(deltaSummary.deleted());
+            dto.setUnchanged(deltaSummary.unchanged());
+        }
+        return dto;
+    }
+}
@@ -2,8 +2,12 @@ package com.remitly.controller.swift_code.mapper;
 
 import com.remitly.controller.swift_code.dto.SwiftCodeBranchDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeExportDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeSearchResultDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
 import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeTextMatch;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
 import org.apache.poi.ss.usermodel.Row;
 
 import java.util.List;
@@ -11,6 +15,8 @@ import java.util.UUID;
 
 public class SwiftCodeMapper {
 
+    public static final int[] IMPORTED_COLUMNS = {0, 1, 3, 4, 6};
+
     public static SwiftCodeDTO map(SwiftCode swiftCode) {
         return SwiftCodeDTO.builder()
                 .address(swiftCode.getAddress())
@@ -27,6 +33,21 @@ public class SwiftCodeMapper {
                 .build();
     }
 
+    public static SwiftCodeDTO map(SwiftCodeView swiftCode, List<SwiftCodeView> branches) {
+        return SwiftCodeDTO.builder()
+                .address(swiftCode.address())
+                .bankName(swiftCode.bankName())
+                .countryISO2(swiftCode.countryISO2())
+                .countryName(swiftCode.countryName())
+                .isHeadquarter(swiftCode.isHeadquarter())
+                .swiftCode(swiftCode.swiftCode())
+                .branches(branches.stream()
+                        .map(SwiftCodeMapper::mapToBranch)
+                        .toList()
+                )
+                .build();
+    }
+
     public static SwiftCode map(SwiftCodeDTO dto) {
         return SwiftCode.builder()
                 .id(UUID.randomUUID())
@@ -49,10 +70,66 @@ public class SwiftCodeMapper {
                 .build();
     }
 
-    public static SwiftCodesCountryISO2DTO map(List<SwiftCode> swiftCodeList) {
+    public static SwiftCodeBranchDTO mapToBranch(SwiftCodeView branch) {
+        return SwiftCodeBranchDTO.builder()
+                .address(branch.address())
+                .bankName(branch.bankName())
+                .countryISO2(branch.countryISO2())
+                .isHeadquarter(branch.isHeadquarter())
+                .swiftCode(branch.swiftCode())
+                .build();
+    }
+
+    public static SwiftCodeExportDTO mapToExport(SwiftCodeView swiftCode) {
+        return SwiftCodeExportDTO.builder()
+                .address(swiftCode.address())
+                .bankName(swiftCode.bankName())
+                .countryISO2(swiftCode.countryISO2())
+                .countryName(swiftCode.countryName())
+                .isHeadquarter(swiftCode.isHeadquarter())
+                .swiftCode(swiftCode.swiftCode())
+                .headquarterSwiftCode(swiftCode.headquarterSwiftCode())
+                .build();
+    }
+
+    public static SwiftCodeSearchResultDTO map(SwiftCodeView swiftCode, double score) {
+        return SwiftCodeSearchResultDTO.builder()
+                .address(swiftCode.address())
+                .bankName(swiftCode.bankName())
+                .countryISO2(swiftCode.countryISO2())
+                .isHeadquarter(swiftCode.isHeadquarter())
+                .swiftCode(swiftCode.swiftCode())
+                .score(score)
+                .build();
+    }
+
+    public static SwiftCodeSearchResultDTO map(SwiftCodeTextMatch match) {
+        return SwiftCodeSearchResultDTO.builder()
+                .address(match.getAddress())
+                .bankName(match.getBankName())
+                .countryISO2(match.getCountryISO2())
+                .isHeadquarter(match.getIsHeadquarter())
+                .swiftCode(match.getSwiftCode())
+                .score(match.getScore())
+                .build();
+    }
+
+    public static SwiftCodeView mapToView(SwiftCode swiftCode) {
+        return new SwiftCodeView(
+                swiftCode.getSwiftCode(),
+                swiftCode.getAddress(),
+                swiftCode.getBankName(),
+                swiftCode.getCountryISO2(),
+                swiftCode.getCountryName(),
+                swiftCode.isHeadquarter(),
+                swiftCode.getHeadquarterId() != null ? swiftCode.getHeadquarterId().getSwiftCode() : null
+        );
+    }
+
+    public static SwiftCodesCountryISO2DTO map(List<SwiftCodeView> swiftCodeList) {
         return SwiftCodesCountryISO2DTO.builder()
-                .countryISO2(swiftCodeList.getFirst().getCountryISO2())
-                .countryName(swiftCodeList.getFirst().getCountryName())
+                .countryISO2(swiftCodeList.getFirst().countryISO2())
+                .countryName(swiftCodeList.getFirst().countryName())
                 .swiftCodes(swiftCodeList.stream()
                         .map(SwiftCodeMapper::mapToBranch)
                         .toList()
@@ -61,16 +138,30 @@ public class SwiftCodeMapper {
     }
 
     public static SwiftCode map(Row row) {
-        String swiftCode = row.getCell(1).getStringCellValue().trim().toUpperCase();
+        return map(
+                row.getCell(0).getStringCellValue(),
+                row.getCell(1).getStringCellValue(),
+                row.getCell(3).getStringCellValue(),
+                row.getCell(4).getStringCellValue(),
+                row.getCell(6).getStringCellValue()
+        );
+    }
+
+    public static SwiftCode map(String[] cells) {
+        return map(cells[0], cells[1], cells[3], cells[4], cells[6]);
+    }
+
+    private static SwiftCode map(String countryISO2, String code, String bankName, String address, String countryName) {
+        String swiftCode = code.trim().toUpperCase();
         boolean isHeadquarter = swiftCode.endsWith("XXX");
 
         return SwiftCode.builder()
                 .id(UUID.randomUUID())
-                .countryISO2(row.getCell(0).getStringCellValue().trim().toUpperCase())
+                .countryISO2(countryISO2.trim().toUpperCase())
                 .swiftCode(swiftCode)
-                .bankName(row.getCell(3).getStringCellValue().trim().toUpperCase())
-                .address(row.getCell(4).getStringCellValue().trim().toUpperCase())
-                .countryName(row.getCell(6).getStringCellValue().trim().toUpperCase())
+                .bankName(bankName.trim().toUpperCase())
+                .address(address.trim().toUpperCase())
+                .countryName(countryName.trim().toUpperCase())
                 .isHeadquarter(isHeadquarter)
                 .build();
     }
@@ -0,0 +1,53 @@
+package com.remitly.controller.timing;
+
+import com.remitly.service.timing.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times the stages of every request through {@link RequestTiming} and reports them in the
+ * {@code Server-Timing} response header. A {@code swift-codes.timing.log-sample-rate} share of
+ * requests is also logged as one {@code key=value} line. Off unless
+ * {@code swift-codes.timing.enabled} is set.
+ */
+@Slf4j
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Value("${swift-codes.timing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${swift-codes.timing.log-sample-rate:0}")
+    private double logSampleRate;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTiming timing = RequestTiming.begin();
+        ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, timing);
+        try {
+            filterChain.doFilter(request, wrapper);
+            wrapper.writeHeader();
+        } finally {
+            RequestTiming.end();
+            if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                log.info("request_timing method={} uri={} status={} {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), timing.toLogFields());
+            }
+        }
+    }
+}
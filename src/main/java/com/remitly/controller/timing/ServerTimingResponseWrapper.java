@@ -0,0 +1,63 @@
+package com.remitly.controller.timing;
+
+import com.remitly.service.timing.RequestTiming;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Adds the {@code Server-Timing} header at the last moment it can still be sent: when the body
+ * stream is requested, on an explicit flush or error, or after the chain for empty responses.
+ */
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    static final String HEADER = "Server-Timing";
+
+    private final RequestTiming timing;
+    private boolean headerWritten;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, RequestTiming timing) {
+        super(response);
+        this.timing = timing;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeHeader();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeHeader();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeHeader();
+        super.sendError(sc);
+    }
+
+    void writeHeader() {
+        if (!headerWritten && !isCommitted()) {
+            headerWritten = true;
+            setHeader(HEADER, timing.toServerTiming());
+        }
+    }
+}
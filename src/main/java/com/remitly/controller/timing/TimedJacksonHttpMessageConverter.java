@@ -0,0 +1,41 @@
+package com.remitly.controller.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.remitly.service.timing.RequestTiming;
+import com.remitly.service.timing.TimingStage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Records the time Jackson takes to write a response body of a timed request as
+ * {@link TimingStage#JSON}. The body is written straight to the response stream, without an
+ * extra copy, so the stage includes writing to the client and is known only after the headers
+ * have been sent: it shows up in the sampled {@code request_timing} log line, not the header.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!RequestTiming.isActive()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTiming.record(TimingStage.JSON, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.remitly.dao.datasource;
+
+import com.remitly.service.timing.TimedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Active when {@code swift-codes.datasource.replica-urls} lists at least one replica. Connections
+ * are fetched lazily, once the transaction has marked them read-only or not: work in
+ * {@code @Transactional(readOnly = true)} goes to {@link ReplicaRoutingDataSource}, everything
+ * else to the primary configured under {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "swift-codes.datasource.replica-urls")
+public class ReadReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${swift-codes.datasource.replica-urls}") String[] replicaUrls,
+            @Value("${swift-codes.datasource.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${swift-codes.datasource.read-your-writes-window:2s}") Duration readYourWritesWindow
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrl.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(new TimedDataSource(replica));
+        }
+        return new ReplicaRoutingDataSource(new TimedDataSource(primaryDataSource), replicas, readYourWritesWindow);
+    }
+
+    @Bean
+    public ReadYourWritesListener readYourWritesListener(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReadYourWritesListener(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new TimedDataSource(primaryDataSource));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
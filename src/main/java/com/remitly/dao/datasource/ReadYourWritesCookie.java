@@ -0,0 +1,55 @@
+package com.remitly.dao.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Per-client read-your-writes marker: a cookie holding the epoch millis until which the
+ * client's reads go to the primary. Set on the response of a write, read from every request.
+ */
+final class ReadYourWritesCookie {
+
+    static final String NAME = "swift-codes-primary-until";
+
+    private ReadYourWritesCookie() {
+    }
+
+    /**
+     * Adds the cookie to the response of the current request; returns false outside a request.
+     */
+    static boolean issue(Duration window) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || attributes.getResponse() == null) {
+            return false;
+        }
+        Cookie cookie = new Cookie(NAME, Long.toString(System.currentTimeMillis() + window.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+        attributes.getResponse().addCookie(cookie);
+        return true;
+    }
+
+    static boolean isPresent() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        Cookie[] cookies = attributes.getRequest().getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
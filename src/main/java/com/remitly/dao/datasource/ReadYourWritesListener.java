@@ -0,0 +1,45 @@
+package com.remitly.dao.datasource;
+
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeEventOrder;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Starts the read-your-writes window after every committed change: for the writing client on
+ * creates and deletes, for the whole instance on a reload. Runs before the other listeners, so
+ * read models rebuilt on {@link SwiftCodesReloadedEvent} read from the primary.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesListener {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Order(SwiftCodeEventOrder.READ_YOUR_WRITES)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodeCreatedEvent event) {
+        replicaRoutingDataSource.markClientWrite();
+    }
+
+    @Order(SwiftCodeEventOrder.READ_YOUR_WRITES)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodesCreatedEvent event) {
+        replicaRoutingDataSource.markClientWrite();
+    }
+
+    @Order(SwiftCodeEventOrder.READ_YOUR_WRITES)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(SwiftCodeDeletedEvent event) {
+        replicaRoutingDataSource.markClientWrite();
+    }
+
+    @Order(SwiftCodeEventOrder.READ_YOUR_WRITES)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReloaded(SwiftCodesReloadedEvent event) {
+        replicaRoutingDataSource.markWrite();
+    }
+}
@@ -0,0 +1,88 @@
+package com.remitly.dao.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only side of the routing: hands out connections of the replicas round-robin, or of the
+ * primary for {@code readYourWritesWindow} after a write, so a client that just wrote does not
+ * read from a replica that has not caught up yet. {@link #markClientWrite()} pins only the
+ * client of the current request, through a cookie; clients that drop cookies may read their own
+ * writes late, and {@link VersionedReads} of every client for the same window, so data paired
+ * with the version tag bumped by the write is not read from a lagging replica either.
+ * {@link #markWrite()} pins every read of this instance and is meant for rare, server-side
+ * changes such as imports.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final Duration readYourWritesWindow;
+    private final long readYourWritesNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile long primaryUntilNanos = System.nanoTime();
+    private volatile long versionedUntilNanos = System.nanoTime();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+    }
+
+    public void markWrite() {
+        if (readYourWritesNanos > 0) {
+            primaryUntilNanos = System.nanoTime() + readYourWritesNanos;
+        }
+    }
+
+    public void markClientWrite() {
+        if (readYourWritesNanos <= 0) {
+            return;
+        }
+        versionedUntilNanos = System.nanoTime() + readYourWritesNanos;
+        if (!ReadYourWritesCookie.issue(readYourWritesWindow)) {
+            markWrite();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return current().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return current().getConnection(username, password);
+    }
+
+    /**
+     * Closes the replica pools, which are not beans of their own.
+     */
+    public void close() throws IOException, SQLException {
+        for (DataSource replica : replicas) {
+            replica.unwrap(Closeable.class).close();
+        }
+    }
+
+    DataSource current() {
+        long now = System.nanoTime();
+        if (now - primaryUntilNanos < 0
+                || VersionedReads.isActive() && now - versionedUntilNanos < 0
+                || ReadYourWritesCookie.isPresent()) {
+            return primary;
+        }
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.remitly.dao.datasource;
+
+/**
+ * Marks reads whose result is paired with a dataset version tag or cached under one. While the
+ * read-your-writes window of the last change is open they go to the primary for every client,
+ * not only for the one that wrote, so a lagging replica cannot pair a new tag with old data.
+ * Without replicas, or outside the window, this is a single thread-local write.
+ */
+public final class VersionedReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private VersionedReads() {
+    }
+
+    public static <T, E extends Exception> T call(Read<T, E> read) throws E {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    @FunctionalInterface
+    public interface Read<T, E extends Exception> {
+        T get() throws E;
+    }
+}
@@ -0,0 +1,143 @@
+package com.remitly.dao.model.swift_code;
+
+/**
+ * A swift code (BIC) parsed and validated once and packed with a 6-bit alphabet: the 8-char
+ * institution prefix (bank, country and location code) in one {@code long} and the optional
+ * 3-char branch code in a second one, 0 for 8-char codes. Only digits and uppercase letters are
+ * valid; they are coded in ASCII order, so packed values sort like the strings they came from.
+ * <p>
+ * Used for validation and as the packed {@code long} key of the import's headquarter maps. The
+ * entity column and the in-memory lookup maps keep the string form: lookups arrive as strings,
+ * whose hash is cached, so a {@code Bic} key would add a parse per request instead of saving one.
+ */
+public final class Bic implements Comparable<Bic> {
+
+    public static final int PREFIX_LENGTH = 8;
+    public static final int LENGTH = 11;
+
+    private static final String HEADQUARTER_SUFFIX = "XXX";
+
+    private static final int BITS = 6;
+    private static final byte[] CODES = new byte[128];
+    private static final char[] SYMBOLS = new char[64];
+    private static final long HEADQUARTER_BRANCH;
+
+    static {
+        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        for (int i = 0; i < alphabet.length(); i++) {
+            CODES[alphabet.charAt(i)] = (byte) (i + 1);
+            SYMBOLS[i + 1] = alphabet.charAt(i);
+        }
+        HEADQUARTER_BRANCH = packBranch(HEADQUARTER_SUFFIX);
+    }
+
+    private final long prefix;
+    private final long branch;
+
+    private Bic(long prefix, long branch) {
+        this.prefix = prefix;
+        this.branch = branch;
+    }
+
+    public static Bic parse(CharSequence code) {
+        if (!isValid(code)) {
+            throw new IllegalArgumentException("Invalid swift code, expected 8 or 11 uppercase letters or digits: " + code);
+        }
+        return new Bic(pack(code, 0, PREFIX_LENGTH), code.length() == LENGTH ? packBranch(code) : 0);
+    }
+
+    public static boolean isValid(CharSequence code) {
+        if (code == null || code.length() != PREFIX_LENGTH && code.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (code(code.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the first 8 chars of a code straight from its string form, the key shared by a
+     * headquarter and all of its branches. Returns 0 when the code is not a valid swift code.
+     */
+    public static long institutionPrefix(CharSequence code) {
+        return isValid(code) ? pack(code, 0, PREFIX_LENGTH) : 0;
+    }
+
+    /**
+     * The headquarter code of a valid code without going through a {@link Bic}: the code itself
+     * for a headquarter, otherwise a single new string.
+     */
+    public static String headquarterCode(String code) {
+        if (!isValid(code)) {
+            throw new IllegalArgumentException("Invalid swift code, expected 8 or 11 uppercase letters or digits: " + code);
+        }
+        if (code.length() == PREFIX_LENGTH) {
+            return code.concat(HEADQUARTER_SUFFIX);
+        }
+        return code.endsWith(HEADQUARTER_SUFFIX) ? code : code.substring(0, PREFIX_LENGTH).concat(HEADQUARTER_SUFFIX);
+    }
+
+    public long institutionPrefix() {
+        return prefix;
+    }
+
+    public boolean isHeadquarter() {
+        return branch == HEADQUARTER_BRANCH;
+    }
+
+    public Bic headquarterCode() {
+        return isHeadquarter() ? this : new Bic(prefix, HEADQUARTER_BRANCH);
+    }
+
+    @Override
+    public int compareTo(Bic other) {
+        int result = Long.compare(prefix, other.prefix);
+        return result != 0 ? result : Long.compare(branch, other.branch);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Bic bic && prefix == bic.prefix && branch == bic.branch;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(prefix * 31 + branch);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[branch == 0 ? PREFIX_LENGTH : LENGTH];
+        unpack(prefix, chars, 0, PREFIX_LENGTH);
+        if (branch != 0) {
+            unpack(branch, chars, PREFIX_LENGTH, LENGTH - PREFIX_LENGTH);
+        }
+        return new String(chars);
+    }
+
+    private static long packBranch(CharSequence code) {
+        return pack(code, code.length() - (LENGTH - PREFIX_LENGTH), LENGTH - PREFIX_LENGTH);
+    }
+
+    private static long pack(CharSequence code, int offset, int length) {
+        long packed = 0;
+        for (int i = offset; i < offset + length; i++) {
+            packed = packed << BITS | code(code.charAt(i));
+        }
+        return packed;
+    }
+
+    private static void unpack(long packed, char[] chars, int offset, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = SYMBOLS[(int) (packed & 0x3F)];
+            packed >>>= BITS;
+        }
+    }
+
+    private static int code(char c) {
+        return c < CODES.length ? CODES[c] : 0;
+    }
+}
@@ -10,7 +10,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "swift_codes")
+@Table(
+        name = "swift_codes",
+        indexes = @Index(name = "idx_swift_codes_country_swift_code", columnList = "countryiso2, swift_code")
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -41,6 +44,8 @@ public class SwiftCode {
     @Column(nullable = false)
     private boolean isDeleted = false;
 
+    private Long contentHash;
+
     @Builder.Default
     @OneToMany(
             mappedBy = "headquarterId",
@@ -48,7 +53,7 @@ public class SwiftCode {
     )
     private List<SwiftCode> branches = new ArrayList<>();
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "headquarter_id")
     private SwiftCode headquarterId;
 
@@ -61,10 +66,28 @@ public class SwiftCode {
         this.branches.add(swiftCode);
     }
 
+    /**
+     * 64-bit FNV-1a hash of the imported columns, used by delta imports to detect changed rows.
+     */
+    public long computeContentHash() {
+        long hash = 0xcbf29ce484222325L;
+        for (String value : new String[]{address, bankName, countryISO2, countryName, String.valueOf(isHeadquarter)}) {
+            String field = value == null ? "" : value;
+            for (int i = 0; i < field.length(); i++) {
+                hash = (hash ^ field.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ 0x1f) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
     @PrePersist
     public void onCreate() {
         if (id == null) {
             id = UUID.randomUUID();
         }
+        if (contentHash == null) {
+            contentHash = computeContentHash();
+        }
     }
 }
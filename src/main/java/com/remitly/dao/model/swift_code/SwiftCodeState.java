@@ -0,0 +1,12 @@
+package com.remitly.dao.model.swift_code;
+
+import java.util.UUID;
+
+public record SwiftCodeState(
+        UUID id,
+        String swiftCode,
+        Long contentHash,
+        boolean isDeleted,
+        boolean isHeadquarter
+) {
+}
@@ -0,0 +1,15 @@
+package com.remitly.dao.model.swift_code;
+
+/**
+ * Row of a native full-text or similarity search over {@code swift_codes}.
+ */
+public interface SwiftCodeTextMatch {
+    String getSwiftCode();
+    String getAddress();
+    String getBankName();
+    String getCountryISO2();
+    String getCountryName();
+    boolean getIsHeadquarter();
+    String getHeadquarterSwiftCode();
+    double getScore();
+}
@@ -0,0 +1,12 @@
+package com.remitly.dao.model.swift_code;
+
+public record SwiftCodeView(
+        String swiftCode,
+        String address,
+        String bankName,
+        String countryISO2,
+        String countryName,
+        boolean isHeadquarter,
+        String headquarterSwiftCode
+) {
+}
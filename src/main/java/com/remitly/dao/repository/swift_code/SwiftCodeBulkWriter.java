@@ -0,0 +1,219 @@
+package com.remitly.dao.repository.swift_code;
+
+import com.remitly.dao.model.swift_code.SwiftCode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based writes of imported swift codes. Inserts must already reference their headquarter
+ * (only its id is read) and headquarters must be written before, or in the same call as, their
+ * branches. On PostgreSQL rows are inserted with {@code COPY} and updated with a single
+ * {@code UPDATE ... FROM (VALUES ...)} per call; on any other database (H2 in tests) Hibernate
+ * and JDBC batching are used instead.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SwiftCodeBulkWriter {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String COPY_SQL = "COPY swift_codes " +
+            "(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted, headquarter_id, content_hash) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String UPDATE_FROM_VALUES_SQL = "UPDATE swift_codes s SET address = d.address, " +
+            "bank_name = d.bank_name, countryiso2 = d.countryiso2, country_name = d.country_name, " +
+            "is_headquarter = d.is_headquarter, content_hash = d.content_hash, is_deleted = false " +
+            "FROM (VALUES %s) AS d(swift_code, address, bank_name, countryiso2, country_name, is_headquarter, content_hash) " +
+            "WHERE s.swift_code = d.swift_code";
+
+    private static final String UPDATE_SQL = "UPDATE swift_codes SET address = ?, bank_name = ?, countryiso2 = ?, " +
+            "country_name = ?, is_headquarter = ?, content_hash = ?, is_deleted = false WHERE swift_code = ?";
+
+    private static final String SOFT_DELETE_SQL = "UPDATE swift_codes SET is_deleted = true WHERE swift_code IN (%s)";
+
+    private static final String MISSING_CONTENT_HASH_SQL = "SELECT swift_code, address, bank_name, countryiso2, " +
+            "country_name, is_headquarter FROM swift_codes WHERE content_hash IS NULL";
+
+    private static final String UPDATE_CONTENT_HASH_SQL = "UPDATE swift_codes SET content_hash = ? WHERE swift_code = ?";
+
+    private static final String LINK_BRANCHES_SQL = "UPDATE swift_codes SET headquarter_id = ? " +
+            "WHERE swift_code LIKE ? AND is_headquarter = false AND headquarter_id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private volatile Boolean postgres;
+
+    public void write(List<SwiftCode> swiftCodes) {
+        if (swiftCodes.isEmpty()) {
+            return;
+        }
+        if (!isPostgres()) {
+            persist(swiftCodes);
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(toCsv(swiftCodes)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Overwrites the imported columns of existing rows matched by swift code and revives them
+     * if they were soft-deleted. The headquarter link is left untouched.
+     */
+    public void update(List<SwiftCode> swiftCodes) {
+        for (List<SwiftCode> part : partition(swiftCodes)) {
+            if (isPostgres()) {
+                List<Object> args = new ArrayList<>(part.size() * 7);
+                for (SwiftCode swiftCode : part) {
+                    args.add(swiftCode.getSwiftCode());
+                    addUpdatedColumns(args, swiftCode);
+                }
+                String values = String.join(", ", Collections.nCopies(part.size(), "(?, ?, ?, ?, ?, ?, ?)"));
+                jdbcTemplate.update(String.format(UPDATE_FROM_VALUES_SQL, values), args.toArray());
+            } else {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, part.stream()
+                        .map(swiftCode -> {
+                            List<Object> args = new ArrayList<>(7);
+                            addUpdatedColumns(args, swiftCode);
+                            args.add(swiftCode.getSwiftCode());
+                            return args.toArray();
+                        })
+                        .toList());
+            }
+        }
+    }
+
+    public void softDelete(List<String> swiftCodes) {
+        for (List<String> part : partition(swiftCodes)) {
+            String placeholders = String.join(", ", Collections.nCopies(part.size(), "?"));
+            jdbcTemplate.update(String.format(SOFT_DELETE_SQL, placeholders), part.toArray());
+        }
+    }
+
+    /**
+     * Links the unlinked branches of each 8 character institution prefix to the given headquarter,
+     * for branches that were written before their headquarter was known.
+     */
+    public void linkBranches(Map<String, UUID> headquarterIdsByPrefix) {
+        List<Object[]> args = headquarterIdsByPrefix.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey() + "%"})
+                .toList();
+        for (List<Object[]> part : partition(args)) {
+            jdbcTemplate.batchUpdate(LINK_BRANCHES_SQL, part);
+        }
+    }
+
+    /**
+     * Stores the content hash of rows written without one (seeded from init.sql or created before
+     * the column existed), so the next delta import does not see them all as changed. Returns the
+     * number of updated rows.
+     */
+    public int backfillContentHashes() {
+        List<Object[]> args = jdbcTemplate.query(MISSING_CONTENT_HASH_SQL, (resultSet, rowNum) -> new Object[]{
+                SwiftCode.builder()
+                        .address(resultSet.getString("address"))
+                        .bankName(resultSet.getString("bank_name"))
+                        .countryISO2(resultSet.getString("countryiso2"))
+                        .countryName(resultSet.getString("country_name"))
+                        .isHeadquarter(resultSet.getBoolean("is_headquarter"))
+                        .build()
+                        .computeContentHash(),
+                resultSet.getString("swift_code")
+        });
+        for (List<Object[]> part : partition(args)) {
+            jdbcTemplate.batchUpdate(UPDATE_CONTENT_HASH_SQL, part);
+        }
+        return args.size();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isWrapperFor(PGConnection.class));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+
+    private void persist(List<SwiftCode> swiftCodes) {
+        for (SwiftCode swiftCode : swiftCodes) {
+            if (swiftCode.getHeadquarterId() != null) {
+                swiftCode.setHeadquarterId(entityManager.getReference(SwiftCode.class, swiftCode.getHeadquarterId().getId()));
+            }
+            entityManager.persist(swiftCode);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static void addUpdatedColumns(List<Object> args, SwiftCode swiftCode) {
+        args.add(swiftCode.getAddress());
+        args.add(swiftCode.getBankName());
+        args.add(swiftCode.getCountryISO2());
+        args.add(swiftCode.getCountryName());
+        args.add(swiftCode.isHeadquarter());
+        args.add(swiftCode.computeContentHash());
+    }
+
+    private static <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> parts = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += MAX_ROWS_PER_STATEMENT) {
+            parts.add(items.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+        return parts;
+    }
+
+    private static String toCsv(List<SwiftCode> swiftCodes) {
+        StringBuilder csv = new StringBuilder(swiftCodes.size() * 192);
+        for (SwiftCode swiftCode : swiftCodes) {
+            csv.append(swiftCode.getId()).append(',');
+            appendQuoted(csv, swiftCode.getAddress()).append(',');
+            appendQuoted(csv, swiftCode.getBankName()).append(',');
+            appendQuoted(csv, swiftCode.getCountryISO2()).append(',');
+            appendQuoted(csv, swiftCode.getCountryName()).append(',');
+            csv.append(swiftCode.isHeadquarter()).append(',');
+            appendQuoted(csv, swiftCode.getSwiftCode()).append(',');
+            csv.append(swiftCode.isDeleted()).append(',');
+            if (swiftCode.getHeadquarterId() != null) {
+                csv.append(swiftCode.getHeadquarterId().getId());
+            }
+            csv.append(',').append(swiftCode.computeContentHash());
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
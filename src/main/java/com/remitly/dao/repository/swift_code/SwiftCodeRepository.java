@@ -1,17 +1,118 @@
 package com.remitly.dao.repository.swift_code;
 
 import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeState;
+import com.remitly.dao.model.swift_code.SwiftCodeTextMatch;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
+@Transactional(readOnly = true)
 public interface SwiftCodeRepository extends JpaRepository<SwiftCode, UUID> {
     Optional<SwiftCode> findById(UUID id);
     Optional<SwiftCode> findBySwiftCode(String swiftCode);
     List<SwiftCode> findByCountryISO2AndIsDeletedFalse(String countryISO2);
+
+    @EntityGraph(attributePaths = "headquarterId")
     Optional<SwiftCode> findBySwiftCodeAndIsDeletedFalse(String swiftCode);
+
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeView(" +
+            "s.swiftCode, s.address, s.bankName, s.countryISO2, s.countryName, s.isHeadquarter, h.swiftCode) " +
+            "FROM SwiftCode s LEFT JOIN s.headquarterId h WHERE s.isDeleted = false")
+    List<SwiftCodeView> findAllLiveViews();
+
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeView(" +
+            "s.swiftCode, s.address, s.bankName, s.countryISO2, s.countryName, s.isHeadquarter, h.swiftCode) " +
+            "FROM SwiftCode s LEFT JOIN s.headquarterId h " +
+            "WHERE s.countryISO2 = :countryISO2 AND s.isDeleted = false ORDER BY s.swiftCode")
+    List<SwiftCodeView> findLiveViewsByCountryISO2(@Param("countryISO2") String countryISO2);
+
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeView(" +
+            "s.swiftCode, s.address, s.bankName, s.countryISO2, s.countryName, s.isHeadquarter, h.swiftCode) " +
+            "FROM SwiftCode s LEFT JOIN s.headquarterId h " +
+            "WHERE s.countryISO2 = :countryISO2 AND s.isDeleted = false AND s.swiftCode > :after ORDER BY s.swiftCode")
+    List<SwiftCodeView> findLiveViewsByCountryISO2After(
+            @Param("countryISO2") String countryISO2,
+            @Param("after") String after,
+            Limit limit
+    );
+
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeView(" +
+            "s.swiftCode, s.address, s.bankName, s.countryISO2, s.countryName, s.isHeadquarter, h.swiftCode) " +
+            "FROM SwiftCode s LEFT JOIN s.headquarterId h WHERE s.swiftCode IN :swiftCodes AND s.isDeleted = false")
+    List<SwiftCodeView> findLiveViewsBySwiftCodeIn(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeView(" +
+            "s.swiftCode, s.address, s.bankName, s.countryISO2, s.countryName, s.isHeadquarter, h.swiftCode) " +
+            "FROM SwiftCode s LEFT JOIN s.headquarterId h WHERE s.isDeleted = false ORDER BY s.swiftCode")
+    Stream<SwiftCodeView> streamLiveViews();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeView(" +
+            "s.swiftCode, s.address, s.bankName, s.countryISO2, s.countryName, s.isHeadquarter, h.swiftCode) " +
+            "FROM SwiftCode s LEFT JOIN s.headquarterId h " +
+            "WHERE s.countryISO2 = :countryISO2 AND s.isDeleted = false ORDER BY s.swiftCode")
+    Stream<SwiftCodeView> streamLiveViewsByCountryISO2(@Param("countryISO2") String countryISO2);
+
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeState(" +
+            "s.id, s.swiftCode, s.contentHash, s.isDeleted, s.isHeadquarter) FROM SwiftCode s")
+    List<SwiftCodeState> findAllStates();
+
+    @Query("SELECT new com.remitly.dao.model.swift_code.SwiftCodeState(" +
+            "s.id, s.swiftCode, s.contentHash, s.isDeleted, s.isHeadquarter) FROM SwiftCode s " +
+            "WHERE s.swiftCode IN :swiftCodes")
+    List<SwiftCodeState> findStatesBySwiftCodeIn(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    /**
+     * PostgreSQL only: full-text search over bank name, address and country name through the
+     * generated {@code search_vector} column and its GIN index (see db/init/init_search.sql).
+     */
+    @Query(value = "SELECT s.swift_code AS \"swiftCode\", s.address AS \"address\", s.bank_name AS \"bankName\", " +
+            "s.countryiso2 AS \"countryISO2\", s.country_name AS \"countryName\", s.is_headquarter AS \"isHeadquarter\", " +
+            "h.swift_code AS \"headquarterSwiftCode\", CAST(ts_rank(s.search_vector, q.query) AS double precision) AS \"score\" " +
+            "FROM swift_codes s " +
+            "CROSS JOIN websearch_to_tsquery('simple', :query) AS q(query) " +
+            "LEFT JOIN swift_codes h ON h.id = s.headquarter_id " +
+            "WHERE s.search_vector @@ q.query AND s.is_deleted = false " +
+            "ORDER BY \"score\" DESC, s.swift_code LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<SwiftCodeTextMatch> searchFullText(
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    /**
+     * PostgreSQL only: bank names similar to the query by {@code pg_trgm}, served by the
+     * trigram GIN index on {@code bank_name}.
+     */
+    @Query(value = "SELECT s.swift_code AS \"swiftCode\", s.address AS \"address\", s.bank_name AS \"bankName\", " +
+            "s.countryiso2 AS \"countryISO2\", s.country_name AS \"countryName\", s.is_headquarter AS \"isHeadquarter\", " +
+            "h.swift_code AS \"headquarterSwiftCode\", CAST(similarity(s.bank_name, :query) AS double precision) AS \"score\" " +
+            "FROM swift_codes s " +
+            "LEFT JOIN swift_codes h ON h.id = s.headquarter_id " +
+            "WHERE s.bank_name % :query AND s.is_deleted = false " +
+            "ORDER BY \"score\" DESC, s.swift_code LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<SwiftCodeTextMatch> searchBankNameSimilarity(
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
 }
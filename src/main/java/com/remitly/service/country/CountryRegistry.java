@@ -0,0 +1,96 @@
+package com.remitly.service.country;
+
+import com.remitly.dao.model.country.Country;
+import com.remitly.dao.repository.country.CountryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * ISO2 code -> accepted country names, built once at startup from the JDK locale data, the
+ * {@code countries} table and the aliases configured in {@code swift-codes.countries.aliases}
+ * ({@code ISO2=NAME} pairs separated by {@code ;}). Lookups index a flat 26x26 table by the two
+ * letters of the code and compare names ignoring case, so a check does not allocate.
+ */
+@Slf4j
+@Component
+public class CountryRegistry {
+
+    private static final int LETTERS = 26;
+
+    private final CountryRepository countryRepository;
+    private final String[][] namesByCode = new String[LETTERS * LETTERS][];
+
+    public CountryRegistry(
+            CountryRepository countryRepository,
+            @Value("${swift-codes.countries.aliases:}") String aliases
+    ) {
+        this.countryRepository = countryRepository;
+        for (String iso : Locale.getISOCountries()) {
+            add(iso, new Locale.Builder().setRegion(iso).build().getDisplayCountry(Locale.ENGLISH));
+        }
+        for (String alias : aliases.split(";")) {
+            int separator = alias.indexOf('=');
+            if (separator > 0) {
+                add(alias.substring(0, separator).trim(), alias.substring(separator + 1).trim());
+            }
+        }
+    }
+
+    @PostConstruct
+    public void loadCountries() {
+        for (Country country : countryRepository.findAll()) {
+            add(country.getCountryISO2code(), country.getCountryName());
+        }
+        log.info("Built country registry with {} codes", Arrays.stream(namesByCode).filter(names -> names != null).count());
+    }
+
+    public boolean isKnownCode(String countryISO2) {
+        int index = index(countryISO2);
+        return index >= 0 && namesByCode[index] != null;
+    }
+
+    public boolean matches(String countryISO2, String countryName) {
+        int index = index(countryISO2);
+        if (index < 0 || countryName == null || namesByCode[index] == null) {
+            return false;
+        }
+        for (String name : namesByCode[index]) {
+            if (name.equalsIgnoreCase(countryName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void add(String countryISO2, String countryName) {
+        int index = index(countryISO2);
+        if (index < 0 || countryName == null || countryName.isBlank() || matches(countryISO2, countryName)) {
+            return;
+        }
+        String[] names = namesByCode[index];
+        if (names == null) {
+            namesByCode[index] = new String[]{countryName};
+        } else {
+            String[] extended = Arrays.copyOf(names, names.length + 1);
+            extended[names.length] = countryName;
+            namesByCode[index] = extended;
+        }
+    }
+
+    private static int index(String countryISO2) {
+        if (countryISO2 == null || countryISO2.length() != 2) {
+            return -1;
+        }
+        int first = Character.toUpperCase(countryISO2.charAt(0)) - 'A';
+        int second = Character.toUpperCase(countryISO2.charAt(1)) - 'A';
+        if (first < 0 || first >= LETTERS || second < 0 || second >= LETTERS) {
+            return -1;
+        }
+        return first * LETTERS + second;
+    }
+}
@@ -0,0 +1,181 @@
+package com.remitly.service.parser;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Reads a UTF-8 CSV/TSV file through memory-mapped windows and hands every data row to the
+ * consumer as an array of {@link ExcelSheetStreamer#COLUMNS} cell values, like
+ * {@link ExcelSheetStreamer}. Only the requested columns are decoded into strings, all other
+ * fields are skipped byte by byte and left empty. Quoted fields with {@code ""} escapes are
+ * supported; the header row is skipped.
+ */
+@Slf4j
+public final class CsvFileStreamer {
+
+    private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final byte delimiter;
+    private final boolean[] wanted = new boolean[ExcelSheetStreamer.COLUMNS];
+    private byte[] scratch = new byte[256];
+
+    private CsvFileStreamer(byte delimiter, int[] columns) {
+        this.delimiter = delimiter;
+        for (int column : columns) {
+            wanted[column] = true;
+        }
+    }
+
+    public static void stream(Path file, char delimiter, int[] columns, Consumer<String[]> rowConsumer) {
+        new CsvFileStreamer((byte) delimiter, columns).read(file, rowConsumer);
+    }
+
+    private void read(Path file, Consumer<String[]> rowConsumer) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            boolean header = true;
+
+            while (position < size) {
+                long length = Math.min(WINDOW_SIZE, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int recordStart = 0;
+                while (recordStart < length) {
+                    String[] cells = header ? null : emptyRow();
+                    int recordEnd = parseRecord(buffer, recordStart, cells, lastWindow);
+                    if (recordEnd < 0) {
+                        break;
+                    }
+                    if (header) {
+                        header = false;
+                    } else if (!isBlank(cells)) {
+                        rowConsumer.accept(cells);
+                    }
+                    recordStart = recordEnd;
+                }
+
+                if (recordStart == 0 && !lastWindow) {
+                    throw new IllegalStateException("Record longer than " + WINDOW_SIZE + " bytes at offset " + position);
+                }
+                position += recordStart;
+                if (lastWindow && recordStart < length) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error occurred while streaming csv file: " + file);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses one record starting at {@code start} into {@code cells} (skipped when null) and returns
+     * the offset right after its line terminator, or -1 when the record is cut off by the end of a
+     * window that is not the last one.
+     */
+    private int parseRecord(MappedByteBuffer buffer, int start, String[] cells, boolean lastWindow) {
+        int limit = buffer.limit();
+        int position = start;
+        int column = 0;
+
+        while (true) {
+            boolean decode = cells != null && column < wanted.length && wanted[column];
+            int length = 0;
+
+            if (position < limit && buffer.get(position) == QUOTE) {
+                position++;
+                while (true) {
+                    if (position >= limit) {
+                        return lastWindow ? finish(cells, column, length, decode, limit) : -1;
+                    }
+                    byte b = buffer.get(position++);
+                    if (b == QUOTE) {
+                        if (position < limit && buffer.get(position) == QUOTE) {
+                            position++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (decode) {
+                        length = append(length, b);
+                    }
+                }
+            }
+
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == delimiter || b == LF || b == CR) {
+                    break;
+                }
+                if (decode) {
+                    length = append(length, b);
+                }
+                position++;
+            }
+
+            if (position >= limit) {
+                return lastWindow ? finish(cells, column, length, decode, limit) : -1;
+            }
+
+            if (decode) {
+                cells[column] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            byte terminator = buffer.get(position++);
+            if (terminator == delimiter) {
+                column++;
+                continue;
+            }
+            if (terminator == CR && position < limit && buffer.get(position) == LF) {
+                position++;
+            } else if (terminator == CR && position >= limit && !lastWindow) {
+                return -1;
+            }
+            return position;
+        }
+    }
+
+    private int finish(String[] cells, int column, int length, boolean decode, int limit) {
+        if (decode) {
+            cells[column] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return limit;
+    }
+
+    private int append(int length, byte b) {
+        if (length == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[length] = b;
+        return length + 1;
+    }
+
+    private static String[] emptyRow() {
+        String[] cells = new String[ExcelSheetStreamer.COLUMNS];
+        Arrays.fill(cells, "");
+        return cells;
+    }
+
+    private static boolean isBlank(String[] cells) {
+        for (String cell : cells) {
+            if (!cell.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+package com.remitly.service.parser;
+
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeState;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.country.CountryRegistry;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.remitly.controller.swift_code.mapper.SwiftCodeMapper.map;
+
+/**
+ * Applies a full swift code file as a delta against the {@code swift_codes} table. Rows are
+ * compared by their stored content hash: new codes are inserted, changed or revived ones are
+ * updated, live codes missing from the file are soft-deleted and everything else is left
+ * untouched, so the cost of a refresh follows the number of changed rows. Rows stored without
+ * a hash get one on startup; until then they count as changed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeltaImportService {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeBulkWriter swiftCodeBulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountryRegistry countryRegistry;
+
+    @Value("${swift-codes.import.workers:0}")
+    private int workers;
+
+    @Value("${swift-codes.import.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillContentHashes() {
+        int backfilled = swiftCodeBulkWriter.backfillContentHashes();
+        if (backfilled > 0) {
+            log.info("Stored content hash of {} swift codes", backfilled);
+        }
+    }
+
+    @Transactional
+    public DeltaImportSummary importDelta(Path file, ImportProgress progress) {
+        ImportFileFormat format = ImportFileFormat.of(file);
+        log.info("Start delta import of {} document: {}", format, file);
+
+        Map<String, SwiftCodeState> current = new HashMap<>();
+        HeadquarterLinkingWriter inserts = new HeadquarterLinkingWriter(swiftCodeBulkWriter, CHUNK_SIZE, progress);
+        for (SwiftCodeState state : swiftCodeRepository.findAllStates()) {
+            current.put(state.swiftCode(), state);
+            // soft-deleted headquarters are registered only once the file revives them
+            if (state.isHeadquarter() && !state.isDeleted()) {
+                inserts.registerHeadquarter(state.swiftCode(), state.id());
+            }
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<SwiftCode> updates = new ArrayList<>(CHUNK_SIZE);
+        long[] counts = new long[3];
+
+        new ImportPipeline(workers > 0 ? workers : Runtime.getRuntime().availableProcessors(), queueCapacity).run(
+                rowConsumer -> format.stream(file, rowConsumer),
+                cells -> SwiftCodeRowValidator.validate(map(cells), countryRegistry),
+                swiftCode -> {
+                    if (!seen.add(swiftCode.getSwiftCode())) {
+                        progress.addRejection("Duplicate swift code in file: " + swiftCode.getSwiftCode());
+                        return;
+                    }
+                    SwiftCodeState state = current.get(swiftCode.getSwiftCode());
+                    if (state == null) {
+                        inserts.accept(swiftCode);
+                        counts[0]++;
+                    } else if (state.isDeleted() || !Objects.equals(state.contentHash(), swiftCode.computeContentHash())) {
+                        if (state.isDeleted() && swiftCode.isHeadquarter()) {
+                            inserts.registerHeadquarter(state.swiftCode(), state.id());
+                        }
+                        updates.add(swiftCode);
+                        counts[1]++;
+                        if (updates.size() == CHUNK_SIZE) {
+                            update(updates, progress);
+                        }
+                    } else {
+                        counts[2]++;
+                    }
+                },
+                progress
+        );
+        inserts.finish();
+        update(updates, progress);
+
+        List<String> removed = current.values().stream()
+                .filter(state -> !state.isDeleted() && !seen.contains(state.swiftCode()))
+                .map(SwiftCodeState::swiftCode)
+                .toList();
+        swiftCodeBulkWriter.softDelete(removed);
+        progress.addRows(removed.size());
+
+        eventPublisher.publishEvent(new SwiftCodesReloadedEvent());
+
+        DeltaImportSummary summary = new DeltaImportSummary(counts[0], counts[1], removed.size(), counts[2], progress.summary());
+        log.info("Finished delta import of {} document: {}, {}", format, file, summary);
+        return summary;
+    }
+
+    private void update(List<SwiftCode> updates, ImportProgress progress) {
+        swiftCodeBulkWriter.update(updates);
+        progress.addRows(updates.size());
+        updates.clear();
+    }
+}
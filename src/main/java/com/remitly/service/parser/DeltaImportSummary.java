@@ -0,0 +1,16 @@
+package com.remitly.service.parser;
+
+public record DeltaImportSummary(
+        long inserted,
+        long updated,
+        long deleted,
+        long unchanged,
+        ImportSummary importSummary
+) {
+
+    @Override
+    public String toString() {
+        return String.format("%d inserted, %d updated, %d deleted, %d unchanged; %s",
+                inserted, updated, deleted, unchanged, importSummary);
+    }
+}
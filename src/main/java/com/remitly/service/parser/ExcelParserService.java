@@ -1,17 +1,24 @@
 package com.remitly.service.parser;
 
+import com.remitly.dao.model.swift_code.Bic;
 import com.remitly.dao.model.swift_code.SwiftCode;
-import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
+import com.remitly.service.country.CountryRegistry;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import com.remitly.service.swift_code.index.LongObjectMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.*;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 
@@ -21,15 +28,24 @@ import static com.remitly.controller.swift_code.mapper.SwiftCodeMapper.map;
 @Service
 @RequiredArgsConstructor
 public class ExcelParserService {
-    private final SwiftCodeRepository swiftCodeRepository;
+    private final SwiftCodeBulkWriter swiftCodeBulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountryRegistry countryRegistry;
     private static final String EXCEL_FILE_PATH = "path_to_file_to_parse";
+    private static final int CHUNK_SIZE = 5000;
+
+    @Value("${swift-codes.import.workers:0}")
+    private int workers;
+
+    @Value("${swift-codes.import.queue-capacity:10000}")
+    private int queueCapacity;
 
     @Transactional
     public void parseFile() {
         log.info("Start parsing of excel document: {}", EXCEL_FILE_PATH);
 
         List<SwiftCode> swiftCodes = new ArrayList<>();
-        Map<String, SwiftCode> headquartersMap = new HashMap<>();
+        LongObjectMap<SwiftCode> headquartersMap = new LongObjectMap<>();
 
         try (InputStream inputStream = new FileInputStream(
                 Paths.get(EXCEL_FILE_PATH).toFile())
@@ -43,8 +59,9 @@ public class ExcelParserService {
             while (rowIterator.hasNext()) {
                 Row row = rowIterator.next();
                 SwiftCode swiftCode = map(row);
-                if (swiftCode.isHeadquarter()) {
-                    headquartersMap.put(swiftCode.getSwiftCode().substring(0, 8), swiftCode);
+                long headquarterKey = Bic.institutionPrefix(swiftCode.getSwiftCode());
+                if (swiftCode.isHeadquarter() && headquarterKey != 0) {
+                    headquartersMap.put(headquarterKey, swiftCode);
                 }
 
                 swiftCodes.add(swiftCode);
@@ -53,18 +70,53 @@ public class ExcelParserService {
             log.error("Error occurred while parsing excel file: " + EXCEL_FILE_PATH);
             throw new RuntimeException(e);
         }
-        swiftCodeRepository.saveAll(swiftCodes);
 
         for (SwiftCode swiftCode : swiftCodes) {
             if (!swiftCode.isHeadquarter()) {
-                String headquarterKey = swiftCode.getSwiftCode().substring(0, 8);
-                SwiftCode headquarter = headquartersMap.get(headquarterKey);
-                if (headquarter != null) {
-                    swiftCode.setHeadquarterId(headquarter);
-                    headquarter.addBranch(swiftCode);
-                }
+                swiftCode.setHeadquarterId(headquartersMap.get(Bic.institutionPrefix(swiftCode.getSwiftCode())));
             }
         }
-        swiftCodeRepository.saveAll(swiftCodes);
+        // headquarters go first so that every branch's foreign key is already satisfied
+        swiftCodes.sort(Comparator.comparing(swiftCode -> !swiftCode.isHeadquarter()));
+        for (int from = 0; from < swiftCodes.size(); from += CHUNK_SIZE) {
+            swiftCodeBulkWriter.write(swiftCodes.subList(from, Math.min(from + CHUNK_SIZE, swiftCodes.size())));
+        }
+        eventPublisher.publishEvent(new SwiftCodesReloadedEvent());
+    }
+
+    /**
+     * Imports the file with bounded memory through an {@link ImportPipeline}: the file, an xlsx
+     * sheet or a csv/tsv export picked by {@link ImportFileFormat}, is read by one thread, rows
+     * are mapped and validated by {@code swift-codes.import.workers} threads and written in
+     * chunks, already linked to their headquarters, on the calling thread.
+     */
+    @Transactional
+    public ImportSummary parseFileStreaming(Path file) {
+        return parseFileStreaming(file, new ImportProgress());
+    }
+
+    @Transactional
+    public ImportSummary parseFileStreaming(Path file, ImportProgress progress) {
+        ImportFileFormat format = ImportFileFormat.of(file);
+        log.info("Start streaming import of {} document: {} with {} workers", format, file, workers());
+
+        HeadquarterLinkingWriter writer = new HeadquarterLinkingWriter(swiftCodeBulkWriter, CHUNK_SIZE, progress);
+
+        new ImportPipeline(workers(), queueCapacity).run(
+                rowConsumer -> format.stream(file, rowConsumer),
+                cells -> SwiftCodeRowValidator.validate(map(cells), countryRegistry),
+                writer,
+                progress
+        );
+        writer.finish();
+        eventPublisher.publishEvent(new SwiftCodesReloadedEvent());
+
+        ImportSummary summary = progress.summary();
+        log.info("Finished streaming import of {} document: {}, {}", format, file, summary);
+        return summary;
+    }
+
+    private int workers() {
+        return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
     }
 }
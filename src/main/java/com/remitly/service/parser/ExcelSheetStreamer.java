@@ -0,0 +1,96 @@
+package com.remitly.service.parser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Reads the first sheet of an .xlsx file with the XSSF event (SAX) model and hands every
+ * data row to the consumer as an array of cell values, so memory use does not grow with
+ * the number of rows. The header row is skipped and missing cells are empty strings.
+ */
+@Slf4j
+public final class ExcelSheetStreamer {
+
+    public static final int COLUMNS = 8;
+
+    private ExcelSheetStreamer() {
+    }
+
+    public static void stream(Path file, Consumer<String[]> rowConsumer) {
+        OPCPackage excelPackage = null;
+        try {
+            excelPackage = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(excelPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(excelPackage);
+            StylesTable styles = reader.getStylesTable();
+
+            try (InputStream sheet = reader.getSheetsData().next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, sharedStrings, new RowHandler(rowConsumer), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            log.error("Error occurred while streaming excel file: " + file);
+            throw new RuntimeException(e);
+        } finally {
+            if (excelPackage != null) {
+                excelPackage.revert();
+            }
+        }
+    }
+
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<String[]> rowConsumer;
+        private String[] cells;
+        private boolean header = true;
+
+        private RowHandler(Consumer<String[]> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new String[COLUMNS];
+            Arrays.fill(cells, "");
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (header) {
+                header = false;
+                return;
+            }
+            rowConsumer.accept(cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (column < COLUMNS && formattedValue != null) {
+                cells[column] = formattedValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.remitly.service.parser;
+
+import com.remitly.dao.model.swift_code.Bic;
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
+import com.remitly.service.swift_code.index.LongObjectMap;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Links branches to headquarters of the same import before they are written, so every row is
+ * inserted exactly once. A headquarter is always written before (or in the same chunk as) its
+ * branches; branches that arrive before their headquarter wait until it shows up, and the ones
+ * left without a headquarter are written unlinked by {@link #finish()}. For input sorted by
+ * swift code only one bank's branches wait at a time. Unsorted input can keep many banks waiting,
+ * so once more than {@code maxPendingBranches} branches wait they are all written unlinked and
+ * their banks are linked by {@link SwiftCodeBulkWriter#linkBranches(Map)} in {@link #finish()}.
+ * Both maps are keyed by the packed {@link Bic#institutionPrefix(CharSequence)}; codes that do
+ * not parse are written unlinked.
+ */
+public class HeadquarterLinkingWriter implements Consumer<SwiftCode> {
+
+    private static final int MAX_PENDING_BRANCHES = 100_000;
+
+    private final SwiftCodeBulkWriter swiftCodeBulkWriter;
+    private final int chunkSize;
+    private final int maxPendingBranches;
+    private final LongConsumer writtenRows;
+    private final List<SwiftCode> chunk;
+    private final LongObjectMap<UUID> headquarterIds = new LongObjectMap<>();
+    private final LongObjectMap<List<SwiftCode>> pendingBranches = new LongObjectMap<>();
+    private final LongObjectMap<String> spilledPrefixes = new LongObjectMap<>();
+    private int pendingCount;
+
+    public HeadquarterLinkingWriter(SwiftCodeBulkWriter swiftCodeBulkWriter, int chunkSize, ImportProgress progress) {
+        this(swiftCodeBulkWriter, chunkSize, MAX_PENDING_BRANCHES, progress::addRows);
+    }
+
+    public HeadquarterLinkingWriter(SwiftCodeBulkWriter swiftCodeBulkWriter, int chunkSize, LongConsumer writtenRows) {
+        this(swiftCodeBulkWriter, chunkSize, MAX_PENDING_BRANCHES, writtenRows);
+    }
+
+    HeadquarterLinkingWriter(SwiftCodeBulkWriter swiftCodeBulkWriter, int chunkSize, int maxPendingBranches,
+                             LongConsumer writtenRows) {
+        this.swiftCodeBulkWriter = swiftCodeBulkWriter;
+        this.chunkSize = chunkSize;
+        this.maxPendingBranches = maxPendingBranches;
+        this.writtenRows = writtenRows;
+        this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    @Override
+    public void accept(SwiftCode swiftCode) {
+        long headquarterKey = Bic.institutionPrefix(swiftCode.getSwiftCode());
+        if (headquarterKey == 0) {
+            add(swiftCode);
+            return;
+        }
+
+        if (swiftCode.isHeadquarter()) {
+            headquarterIds.put(headquarterKey, swiftCode.getId());
+            add(swiftCode);
+
+            List<SwiftCode> branches = pendingBranches.remove(headquarterKey);
+            if (branches != null) {
+                pendingCount -= branches.size();
+                branches.forEach(branch -> addLinked(branch, swiftCode.getId()));
+            }
+            return;
+        }
+
+        UUID headquarterId = headquarterIds.get(headquarterKey);
+        if (headquarterId != null) {
+            addLinked(swiftCode, headquarterId);
+        } else {
+            pendingBranches.computeIfAbsent(headquarterKey, key -> new ArrayList<>()).add(swiftCode);
+            if (++pendingCount > maxPendingBranches) {
+                spillPendingBranches();
+            }
+        }
+    }
+
+    /**
+     * Makes an already stored headquarter available for linking branches of this import,
+     * including the ones already waiting for it.
+     */
+    public void registerHeadquarter(String swiftCode, UUID id) {
+        long headquarterKey = Bic.institutionPrefix(swiftCode);
+        if (headquarterKey == 0) {
+            return;
+        }
+        headquarterIds.put(headquarterKey, id);
+
+        List<SwiftCode> branches = pendingBranches.remove(headquarterKey);
+        if (branches != null) {
+            pendingCount -= branches.size();
+            branches.forEach(branch -> addLinked(branch, id));
+        }
+    }
+
+    public void finish() {
+        pendingBranches.forEachValue(branches -> branches.forEach(this::add));
+        pendingBranches.clear();
+        pendingCount = 0;
+        flush();
+
+        Map<String, UUID> spilledHeadquarterIds = new HashMap<>();
+        spilledPrefixes.forEachValue(prefix -> {
+            UUID headquarterId = headquarterIds.get(Bic.institutionPrefix(prefix));
+            if (headquarterId != null) {
+                spilledHeadquarterIds.put(prefix, headquarterId);
+            }
+        });
+        spilledPrefixes.clear();
+        swiftCodeBulkWriter.linkBranches(spilledHeadquarterIds);
+    }
+
+    private void spillPendingBranches() {
+        pendingBranches.forEachValue(branches -> {
+            String prefix = branches.getFirst().getSwiftCode().substring(0, Bic.PREFIX_LENGTH);
+            spilledPrefixes.put(Bic.institutionPrefix(prefix), prefix);
+            branches.forEach(this::add);
+        });
+        pendingBranches.clear();
+        pendingCount = 0;
+    }
+
+    private void addLinked(SwiftCode branch, UUID headquarterId) {
+        branch.setHeadquarterId(SwiftCode.builder().id(headquarterId).build());
+        add(branch);
+    }
+
+    private void add(SwiftCode swiftCode) {
+        chunk.add(swiftCode);
+        if (chunk.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        swiftCodeBulkWriter.write(chunk);
+        writtenRows.accept(chunk.size());
+        chunk.clear();
+    }
+}
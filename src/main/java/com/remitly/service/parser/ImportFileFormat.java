@@ -0,0 +1,46 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.exception.swift_code.SwiftCodeValidationException;
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+public enum ImportFileFormat {
+    XLSX(".xlsx"),
+    CSV(".csv"),
+    TSV(".tsv");
+
+    private final String extension;
+
+    ImportFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ImportFileFormat fromFileName(String fileName) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        for (ImportFileFormat format : values()) {
+            if (name.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        throw new SwiftCodeValidationException("Unsupported import file: " + fileName + ", expected .xlsx, .csv or .tsv");
+    }
+
+    public static ImportFileFormat of(Path file) {
+        return fromFileName(file.getFileName().toString());
+    }
+
+    public void stream(Path file, Consumer<String[]> rowConsumer) {
+        switch (this) {
+            case XLSX -> ExcelSheetStreamer.stream(file, rowConsumer);
+            case CSV -> CsvFileStreamer.stream(file, ',', SwiftCodeMapper.IMPORTED_COLUMNS, rowConsumer);
+            case TSV -> CsvFileStreamer.stream(file, '\t', SwiftCodeMapper.IMPORTED_COLUMNS, rowConsumer);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.remitly.service.parser;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+public class ImportJob {
+
+    private final UUID id;
+    private final String fileName;
+    private final ImportMode mode;
+    private final Path file;
+    private final Instant createdAt = Instant.now();
+
+    private volatile ImportJobState state = ImportJobState.QUEUED;
+    private volatile ImportProgress progress;
+    private volatile ImportSummary summary;
+    private volatile DeltaImportSummary deltaSummary;
+    private volatile String error;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public ImportJob(UUID id, String fileName, ImportMode mode, Path file) {
+        this.id = id;
+        this.fileName = fileName;
+        this.mode = mode;
+        this.file = file;
+    }
+
+    void start(ImportProgress progress) {
+        this.progress = progress;
+        this.startedAt = Instant.now();
+        this.state = ImportJobState.RUNNING;
+    }
+
+    void complete(ImportSummary summary) {
+        this.summary = summary;
+        this.finishedAt = Instant.now();
+        this.state = ImportJobState.COMPLETED;
+    }
+
+    void complete(DeltaImportSummary deltaSummary) {
+        this.deltaSummary = deltaSummary;
+        complete(deltaSummary.importSummary());
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = ImportJobState.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == ImportJobState.COMPLETED || state == ImportJobState.FAILED;
+    }
+}
@@ -0,0 +1,118 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.exception.import_job.ImportJobNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Stores uploaded files on local disk and runs their imports on a dedicated executor, so an
+ * upload request returns as soon as the file is written. Job state is kept in memory; finished
+ * jobs are forgotten after {@code swift-codes.import.job-retention}.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private final ExcelParserService excelParserService;
+    private final DeltaImportService deltaImportService;
+    private final Path uploadDir;
+    private final Duration jobRetention;
+    private final ExecutorService executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(
+            ExcelParserService excelParserService,
+            DeltaImportService deltaImportService,
+            @Value("${swift-codes.import.upload-dir:${java.io.tmpdir}/swift-code-imports}") Path uploadDir,
+            @Value("${swift-codes.import.concurrent-jobs:1}") int concurrentJobs,
+            @Value("${swift-codes.import.job-retention:24h}") Duration jobRetention
+    ) {
+        this.excelParserService = excelParserService;
+        this.deltaImportService = deltaImportService;
+        this.uploadDir = uploadDir;
+        this.jobRetention = jobRetention;
+        this.executor = Executors.newFixedThreadPool(
+                concurrentJobs, Thread.ofPlatform().name("swift-code-import-job-", 0).factory());
+    }
+
+    public ImportJob submit(MultipartFile file, ImportMode mode) {
+        removeExpiredJobs();
+
+        ImportFileFormat format = ImportFileFormat.fromFileName(file.getOriginalFilename());
+        UUID id = UUID.randomUUID();
+        Path target = uploadDir.resolve(id + format.getExtension());
+        try {
+            Files.createDirectories(uploadDir);
+            file.transferTo(target);
+        } catch (IOException e) {
+            log.error("Error occurred while storing uploaded file: {}", file.getOriginalFilename());
+            throw new RuntimeException(e);
+        }
+
+        ImportJob job = new ImportJob(id, file.getOriginalFilename(), mode, target);
+        jobs.put(id, job);
+        executor.execute(() -> run(job));
+
+        log.info("Queued {} import job {} for file: {}", mode, id, file.getOriginalFilename());
+        return job;
+    }
+
+    public ImportJob getJob(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            log.error("There is no such import job: {}", id);
+            throw new ImportJobNotFoundException("Import job " + id + ", not found");
+        }
+        return job;
+    }
+
+    private void run(ImportJob job) {
+        ImportProgress progress = new ImportProgress();
+        job.start(progress);
+        try {
+            switch (job.getMode()) {
+                case FULL -> job.complete(excelParserService.parseFileStreaming(job.getFile(), progress));
+                case DELTA -> job.complete(deltaImportService.importDelta(job.getFile(), progress));
+            }
+            log.info("Import job {} completed", job.getId());
+        } catch (RuntimeException e) {
+            log.error("Import job {} failed", job.getId(), e);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            job.fail(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        } catch (Error e) {
+            log.error("Import job {} failed", job.getId(), e);
+            job.fail(e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw e;
+        } finally {
+            try {
+                Files.deleteIfExists(job.getFile());
+            } catch (IOException e) {
+                log.warn("Could not delete uploaded file: {}", job.getFile());
+            }
+        }
+    }
+
+    private void removeExpiredJobs() {
+        Instant threshold = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
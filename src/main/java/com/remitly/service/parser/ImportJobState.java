@@ -0,0 +1,8 @@
+package com.remitly.service.parser;
+
+public enum ImportJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.remitly.service.parser;
+
+public enum ImportMode {
+    FULL,
+    DELTA
+}
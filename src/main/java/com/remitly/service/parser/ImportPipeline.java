@@ -0,0 +1,152 @@
+package com.remitly.service.parser;
+
+import com.remitly.dao.model.swift_code.SwiftCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Three stage import: a reader thread pushes raw rows into a bounded queue, worker threads map
+ * and validate them into a second bounded queue and the calling thread drains it into the sink,
+ * so writes stay inside the caller's transaction. Full queues block the producing stage, which
+ * keeps memory bounded when the writer is the bottleneck.
+ */
+@Slf4j
+public class ImportPipeline {
+
+    private static final String[] END_OF_ROWS = new String[0];
+    private static final SwiftCode END_OF_SWIFT_CODES = new SwiftCode();
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final int workers;
+    private final int queueCapacity;
+
+    public ImportPipeline(int workers, int queueCapacity) {
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * @param source    pushes every raw row to the given consumer
+     * @param rowMapper maps a row, throwing for invalid rows which are then counted as rejected
+     * @param sink      receives mapped rows on the calling thread
+     */
+    public void run(Consumer<Consumer<String[]>> source,
+                    Function<String[], SwiftCode> rowMapper,
+                    Consumer<SwiftCode> sink,
+                    ImportProgress progress) {
+        BlockingQueue<String[]> rowQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<SwiftCode> swiftCodeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        progress.watchQueues(rowQueue, swiftCodeQueue);
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                workers + 1, Thread.ofPlatform().name("swift-code-import-", 0).factory());
+        try {
+            Future<?> reader = executor.submit(() -> {
+                read(source, rowQueue, progress);
+                return null;
+            });
+            List<Future<?>> mappers = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                mappers.add(executor.submit(() -> map(rowQueue, swiftCodeQueue, rowMapper, progress)));
+            }
+
+            write(swiftCodeQueue, sink, progress);
+            for (Future<?> mapper : mappers) {
+                mapper.get();
+            }
+            reader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import was interrupted", e);
+        } catch (ExecutionException e) {
+            log.error("Import stage failed");
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void read(Consumer<Consumer<String[]>> source,
+                      BlockingQueue<String[]> rowQueue,
+                      ImportProgress progress) throws InterruptedException {
+        try {
+            source.accept(cells -> {
+                try {
+                    rowQueue.put(cells);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Import reader was interrupted");
+                }
+                progress.addRowsRead(1);
+            });
+        } finally {
+            for (int i = 0; i < workers; i++) {
+                rowQueue.put(END_OF_ROWS);
+            }
+        }
+    }
+
+    private void map(BlockingQueue<String[]> rowQueue,
+                     BlockingQueue<SwiftCode> swiftCodeQueue,
+                     Function<String[], SwiftCode> rowMapper,
+                     ImportProgress progress) {
+        try {
+            for (String[] cells = rowQueue.take(); cells != END_OF_ROWS; cells = rowQueue.take()) {
+                SwiftCode swiftCode;
+                try {
+                    swiftCode = rowMapper.apply(cells);
+                } catch (RuntimeException e) {
+                    log.warn("Rejected row {}: {}", Arrays.toString(cells), e.getMessage());
+                    progress.addRejection(e.getMessage());
+                    continue;
+                }
+                swiftCodeQueue.put(swiftCode);
+                progress.addRowsMapped(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // the writer counts end markers, a worker dying without one would block it forever
+            try {
+                swiftCodeQueue.put(END_OF_SWIFT_CODES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void write(BlockingQueue<SwiftCode> swiftCodeQueue,
+                       Consumer<SwiftCode> sink,
+                       ImportProgress progress) throws InterruptedException {
+        long nextLog = System.nanoTime() + PROGRESS_LOG_INTERVAL_NANOS;
+        int finishedWorkers = 0;
+
+        while (finishedWorkers < workers) {
+            SwiftCode swiftCode = swiftCodeQueue.take();
+            if (swiftCode == END_OF_SWIFT_CODES) {
+                finishedWorkers++;
+                continue;
+            }
+            sink.accept(swiftCode);
+
+            if (System.nanoTime() - nextLog > 0) {
+                nextLog = System.nanoTime() + PROGRESS_LOG_INTERVAL_NANOS;
+                log.info("Import progress: read {} ({} rows/s), mapped {} ({} rows/s), written {} ({} rows/s), " +
+                                "rejected {}, row queue {}, swift code queue {}",
+                        progress.getRowsRead(), (long) progress.getReadRowsPerSecond(),
+                        progress.getRowsMapped(), (long) progress.getMappedRowsPerSecond(),
+                        progress.getRows(), (long) progress.getRowsPerSecond(),
+                        progress.getRowsRejected(), progress.getRowQueueDepth(), progress.getSwiftCodeQueueDepth());
+            }
+        }
+    }
+}
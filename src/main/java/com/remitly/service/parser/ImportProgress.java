@@ -0,0 +1,122 @@
+package com.remitly.service.parser;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe counters of a running import, one per pipeline stage, plus the current depth
+ * of the queues between stages. Only the first rejection reasons are kept. Peak heap is the
+ * highest heap usage sampled at the start, after every written chunk and at the end of the
+ * import. The heap is shared by the whole process, so with concurrent imports each one reports
+ * an upper bound; nothing global is reset, so imports do not disturb each other's figure.
+ */
+public class ImportProgress {
+
+    private static final int MAX_REJECTIONS = 100;
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private final long startNanos;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsMapped = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private final List<String> rejections = new CopyOnWriteArrayList<>();
+    private volatile Collection<?> rowQueue;
+    private volatile Collection<?> swiftCodeQueue;
+
+    public ImportProgress() {
+        sampleHeap();
+        this.startNanos = System.nanoTime();
+    }
+
+    public void addRowsRead(long count) {
+        rowsRead.addAndGet(count);
+    }
+
+    public void addRowsMapped(long count) {
+        rowsMapped.addAndGet(count);
+    }
+
+    public void addRejection(String reason) {
+        if (rowsRejected.incrementAndGet() <= MAX_REJECTIONS) {
+            rejections.add(reason);
+        }
+    }
+
+    public void addRows(long count) {
+        rows.addAndGet(count);
+        sampleHeap();
+    }
+
+    void watchQueues(Collection<?> rowQueue, Collection<?> swiftCodeQueue) {
+        this.rowQueue = rowQueue;
+        this.swiftCodeQueue = swiftCodeQueue;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsMapped() {
+        return rowsMapped.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public List<String> getRejections() {
+        return List.copyOf(rejections);
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public int getRowQueueDepth() {
+        Collection<?> queue = rowQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getSwiftCodeQueueDepth() {
+        Collection<?> queue = swiftCodeQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public double getReadRowsPerSecond() {
+        return perSecond(rowsRead.get());
+    }
+
+    public double getMappedRowsPerSecond() {
+        return perSecond(rowsMapped.get());
+    }
+
+    public double getRowsPerSecond() {
+        return perSecond(rows.get());
+    }
+
+    public ImportSummary summary() {
+        sampleHeap();
+        return new ImportSummary(
+                getRows(), getRowsRead(), getRowsRejected(), getElapsedMillis(), getRowsPerSecond(), peakHeapBytes.get());
+    }
+
+    private void sampleHeap() {
+        peakHeapBytes.accumulateAndGet(MEMORY.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private double perSecond(long count) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000d / elapsedNanos;
+    }
+}
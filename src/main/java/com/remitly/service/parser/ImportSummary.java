@@ -0,0 +1,17 @@
+package com.remitly.service.parser;
+
+public record ImportSummary(
+        long rows,
+        long rowsRead,
+        long rowsRejected,
+        long durationMillis,
+        double rowsPerSecond,
+        long peakHeapBytes
+) {
+
+    @Override
+    public String toString() {
+        return String.format("%d rows written (%d read, %d rejected) in %d ms (%.0f rows/s), peak heap %d MB",
+                rows, rowsRead, rowsRejected, durationMillis, rowsPerSecond, peakHeapBytes / (1024 * 1024));
+    }
+}
@@ -0,0 +1,32 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.exception.swift_code.SwiftCodeValidationException;
+import com.remitly.dao.model.swift_code.Bic;
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.service.country.CountryRegistry;
+
+public final class SwiftCodeRowValidator {
+
+    private SwiftCodeRowValidator() {
+    }
+
+    public static SwiftCode validate(SwiftCode swiftCode) {
+        if (!Bic.isValid(swiftCode.getSwiftCode())) {
+            throw new SwiftCodeValidationException(
+                    "Invalid swift code, should be 8 or 11 uppercase letters or digits, actual: " + swiftCode.getSwiftCode());
+        } else if (swiftCode.getCountryISO2().length() != 2) {
+            throw new SwiftCodeValidationException("Invalid countryISO2: " + swiftCode.getCountryISO2());
+        } else if (swiftCode.getBankName().isEmpty() || swiftCode.getCountryName().isEmpty()) {
+            throw new SwiftCodeValidationException("Missing bank or country name for swift code: " + swiftCode.getSwiftCode());
+        }
+        return swiftCode;
+    }
+
+    public static SwiftCode validate(SwiftCode swiftCode, CountryRegistry countryRegistry) {
+        validate(swiftCode);
+        if (!countryRegistry.isKnownCode(swiftCode.getCountryISO2())) {
+            throw new SwiftCodeValidationException("Unknown countryISO2: " + swiftCode.getCountryISO2());
+        }
+        return swiftCode;
+    }
+}
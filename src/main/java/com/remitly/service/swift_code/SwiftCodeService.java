@@ -1,30 +1,75 @@
 package com.remitly.service.swift_code;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.remitly.controller.exception.swift_code.SwiftCodeAlreadyExistsException;
 import com.remitly.controller.exception.swift_code.SwiftCodeNotFoundException;
 import com.remitly.controller.exception.swift_code.SwiftCodeValidationException;
 import com.remitly.controller.swift_code.dto.ResponseMessageDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkCreateDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBranchDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkItemDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeLookupDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeSearchResultDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
 import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.datasource.VersionedReads;
 import com.remitly.dao.model.country.Country;
+import com.remitly.dao.model.swift_code.Bic;
 import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeState;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
 import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.country.CountryRegistry;
 import com.remitly.service.country.CountryService;
+import com.remitly.service.parser.HeadquarterLinkingWriter;
+import com.remitly.service.swift_code.cache.CountryResponseCache;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.index.SwiftCodeIndex;
+import com.remitly.service.swift_code.metrics.SwiftCodeMetrics;
+import com.remitly.service.swift_code.search.TextSearchMode;
+import com.remitly.service.swift_code.search.TrigramSearchIndex;
+import com.remitly.service.timing.RequestTiming;
+import com.remitly.service.timing.TimingStage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Locale;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SwiftCodeService {
 
+    private static final int MAX_LOOKUP_CODES = 1000;
+    private static final int MAX_BULK_CODES = 5000;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final double MIN_SIMILARITY = 0.2;
+
     private final SwiftCodeRepository swiftCodeRepository;
     private final CountryService countryService;
+    private final CountryRegistry countryRegistry;
+    private final SwiftCodeIndex swiftCodeIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountryResponseCache countryResponseCache;
+    private final ObjectMapper objectMapper;
+    private final SwiftCodeBulkWriter swiftCodeBulkWriter;
+    private final TrigramSearchIndex trigramSearchIndex;
+    private final SwiftCodeMetrics swiftCodeMetrics;
 
     private SwiftCode findBySwiftCode(String swiftCode) {
         log.info("Fetching swift code: {}", swiftCode);
@@ -36,42 +81,263 @@ public class SwiftCodeService {
     }
 
     public SwiftCodeDTO getSwiftCode(String code) {
-        SwiftCode swiftCode = findBySwiftCode(code);
-        return SwiftCodeMapper.map(swiftCode);
+        log.info("Fetching swift code: {}", code);
+        return swiftCodeMetrics.timeMapping("swift_code", () -> swiftCodeIndex.find(code))
+                .orElseThrow(() -> {
+                    log.error("There is no such swift code: {}", code);
+                    return new SwiftCodeNotFoundException("Swift code " + code + ", not found");
+                });
+    }
+
+    public boolean existsSwiftCode(String code) {
+        return swiftCodeIndex.contains(code);
+    }
+
+    public SwiftCodeLookupDTO lookupSwiftCodes(List<String> codes) {
+        if (codes == null || codes.isEmpty() || codes.size() > MAX_LOOKUP_CODES) {
+            throw new SwiftCodeValidationException(
+                    "Lookup expects between 1 and " + MAX_LOOKUP_CODES + " swift codes, actual: " + (codes == null ? 0 : codes.size())
+            );
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String code : codes) {
+            if (code != null && !code.isBlank()) {
+                requested.add(code.trim().toUpperCase());
+            }
+        }
+        log.info("Looking up {} swift codes", requested.size());
+
+        Map<String, SwiftCodeDTO> found = swiftCodeMetrics.timeMapping("lookup", () -> swiftCodeIndex.findAll(requested));
+        return SwiftCodeLookupDTO.builder()
+                .found(List.copyOf(found.values()))
+                .missing(requested.stream().filter(code -> !found.containsKey(code)).toList())
+                .build();
+    }
+
+    public List<SwiftCodeBranchDTO> searchSwiftCodesByPrefix(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.trim().length() > 11) {
+            throw new SwiftCodeValidationException("Invalid prefix, should have between 1 and 11 characters, actual: " + prefix);
+        } else if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new SwiftCodeValidationException("Invalid limit, should be between 1 and " + MAX_SEARCH_RESULTS + ", actual: " + limit);
+        }
+        List<SwiftCodeView> matches = swiftCodeIndex.findByPrefix(prefix.trim().toUpperCase(), limit);
+        return swiftCodeMetrics.timeMapping("search", () -> matches.stream()
+                .map(SwiftCodeMapper::mapToBranch)
+                .toList());
     }
 
+    public List<SwiftCodeSearchResultDTO> searchSwiftCodesByName(String query, int limit) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new SwiftCodeValidationException("Invalid query, should have between 1 and " + MAX_QUERY_LENGTH + " characters");
+        } else if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new SwiftCodeValidationException("Invalid limit, should be between 1 and " + MAX_SEARCH_RESULTS + ", actual: " + limit);
+        }
+        log.info("Searching swift codes by bank name or address: {}", query);
+        List<TrigramSearchIndex.Match> matches = trigramSearchIndex.search(query, limit, MIN_SIMILARITY);
+        return swiftCodeMetrics.timeMapping("search", () -> matches.stream()
+                .map(match -> SwiftCodeMapper.map(match.swiftCode(), match.score()))
+                .toList());
+    }
+
+    /**
+     * Database-side search for deployments whose data set is too large for the in-memory
+     * indexes; requires PostgreSQL with db/init/init_search.sql applied.
+     */
+    @Transactional(readOnly = true)
+    public List<SwiftCodeSearchResultDTO> searchSwiftCodesByText(String query, TextSearchMode mode, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new SwiftCodeValidationException("Invalid query, should have between 1 and " + MAX_QUERY_LENGTH + " characters");
+        } else if (page < 0 || size < 1 || size > MAX_SEARCH_RESULTS) {
+            throw new SwiftCodeValidationException(
+                    "Invalid page, size should be between 1 and " + MAX_SEARCH_RESULTS + ", actual: page = " + page + ", size = " + size);
+        }
+        log.info("Searching swift codes with {} for: {}", mode, query);
+
+        long offset = (long) page * size;
+        var matches = switch (mode) {
+            case FULL_TEXT -> VersionedReads.call(() -> swiftCodeRepository.searchFullText(query, size, offset));
+            case SIMILARITY -> VersionedReads.call(
+                    () -> swiftCodeRepository.searchBankNameSimilarity(query.toUpperCase(), size, offset));
+        };
+        return swiftCodeMetrics.timeMapping("search", () -> matches.stream()
+                .map(SwiftCodeMapper::map)
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
     public SwiftCodesCountryISO2DTO getAllSwiftCodesByCountryISO2code(String countryISO2code) {
         log.info("Fetching all swift-codes for countryISO2: {}", countryISO2code);
-        var swiftCodes = swiftCodeRepository.findByCountryISO2AndIsDeletedFalse(countryISO2code);
-        return SwiftCodeMapper.map(swiftCodes);
+        var swiftCodes = VersionedReads.call(() -> swiftCodeRepository.findLiveViewsByCountryISO2(countryISO2code));
+        return swiftCodeMetrics.timeMapping("country", () -> SwiftCodeMapper.map(swiftCodes));
+    }
+
+    /**
+     * Keyset page of a country's swift codes ordered by code. The cursor is an opaque token for the
+     * last code of the previous page, so every page is an index range scan of the same cost.
+     */
+    @Transactional(readOnly = true)
+    public SwiftCodesCountryISO2DTO getSwiftCodesPageByCountryISO2code(String countryISO2code, int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new SwiftCodeValidationException("Invalid limit, should be between 1 and " + MAX_PAGE_SIZE + ", actual: " + limit);
+        }
+        log.info("Fetching page of {} swift-codes for countryISO2: {}", limit, countryISO2code);
+
+        String after = cursor == null ? "" : decodeCursor(cursor);
+        List<SwiftCodeView> fetched = VersionedReads.call(() -> swiftCodeRepository.findLiveViewsByCountryISO2After(
+                countryISO2code, after, Limit.of(limit + 1)));
+        boolean hasNext = fetched.size() > limit;
+        List<SwiftCodeView> page = hasNext ? fetched.subList(0, limit) : fetched;
+
+        SwiftCodesCountryISO2DTO result = page.isEmpty()
+                ? SwiftCodesCountryISO2DTO.builder().countryISO2(countryISO2code).swiftCodes(List.of()).build()
+                : swiftCodeMetrics.timeMapping("country_page", () -> SwiftCodeMapper.map(page));
+        result.setNextCursor(hasNext ? encodeCursor(page.getLast().swiftCode()) : null);
+        return result;
+    }
+
+    public byte[] getAllSwiftCodesByCountryISO2codeAsJson(String countryISO2code) {
+        return countryResponseCache.get(countryISO2code, () -> {
+            SwiftCodesCountryISO2DTO swiftCodes = getAllSwiftCodesByCountryISO2code(countryISO2code);
+            long start = System.nanoTime();
+            try {
+                return objectMapper.writeValueAsBytes(swiftCodes);
+            } catch (JsonProcessingException e) {
+                log.error("Error occurred while serializing swift codes for countryISO2: {}", countryISO2code);
+                throw new RuntimeException(e);
+            } finally {
+                RequestTiming.record(TimingStage.JSON, System.nanoTime() - start);
+            }
+        });
     }
 
+    /**
+     * Creates a single swift code the way {@link #createSwiftCodes(List)} does: one query for the
+     * state of the code and of its headquarter, then a soft-deleted code is revived and a new one
+     * inserted, linked to its headquarter while that one is live.
+     */
     @Transactional
     public ResponseMessageDTO createSwiftCode(SwiftCodeDTO dto) {
-        log.info("Creating swift-code {}", dto.getSwiftCode());
+        String code = dto.getSwiftCode();
+        log.info("Creating swift-code {}", code);
 
-        validateSwiftCodeCreation(dto);
+        Set<String> lookup = new HashSet<>();
+        lookup.add(code);
+        if (!dto.isHeadquarter() && Bic.isValid(code)) {
+            lookup.add(Bic.headquarterCode(code));
+        }
+        Map<String, SwiftCodeState> existing = swiftCodeRepository.findStatesBySwiftCodeIn(lookup).stream()
+                .collect(Collectors.toMap(SwiftCodeState::swiftCode, Function.identity()));
+
+        SwiftCodeState state = existing.get(code);
+        if (state != null && !state.isDeleted()) {
+            throw new SwiftCodeAlreadyExistsException("Swift code: " + code + ", already exists");
+        }
+        validateSwiftCodeFormat(dto);
 
         SwiftCode swiftCode = SwiftCodeMapper.map(dto);
+        SwiftCodeView view;
+        if (state != null) {
+            swiftCodeBulkWriter.update(List.of(swiftCode));
+            // read back so the event carries the headquarter link exactly as stored
+            view = swiftCodeRepository.findLiveViewsBySwiftCodeIn(List.of(code)).getFirst();
+        } else {
+            SwiftCodeState headquarter = dto.isHeadquarter() ? null : existing.get(Bic.headquarterCode(code));
+            if (headquarter != null && !headquarter.isDeleted()) {
+                // only the id is written, so the headquarter and its branches are not loaded
+                swiftCode.setHeadquarterId(SwiftCode.builder().id(headquarter.id()).swiftCode(headquarter.swiftCode()).build());
+            }
+            view = SwiftCodeMapper.mapToView(swiftCode);
+            swiftCodeBulkWriter.write(List.of(swiftCode));
+        }
+        eventPublisher.publishEvent(new SwiftCodeCreatedEvent(view));
+
+        return new ResponseMessageDTO("Swift code " + code + " created!");
+    }
+
+    /**
+     * Creates a batch of swift codes with one query for both existing codes and the headquarters
+     * of new branches, and a bulk insert of every valid item. Invalid or already existing items
+     * are reported per item instead of failing the batch; soft-deleted codes are revived.
+     */
+    @Transactional
+    public SwiftCodeBulkCreateDTO createSwiftCodes(List<SwiftCodeDTO> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > MAX_BULK_CODES) {
+            throw new SwiftCodeValidationException(
+                    "Bulk create expects between 1 and " + MAX_BULK_CODES + " swift codes, actual: " + (dtos == null ? 0 : dtos.size())
+            );
+        }
+        for (int i = 0; i < dtos.size(); i++) {
+            if (dtos.get(i) == null) {
+                throw new SwiftCodeValidationException("Bulk create expects swift codes, found null at index " + i);
+            }
+        }
+        log.info("Creating {} swift codes in bulk", dtos.size());
+
+        SwiftCodeBulkItemDTO[] results = new SwiftCodeBulkItemDTO[dtos.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            SwiftCodeDTO dto = dtos.get(i);
+            try {
+                validateSwiftCodeFormat(dto);
+            } catch (SwiftCodeValidationException e) {
+                results[i] = bulkItem(dto.getSwiftCode(), HttpStatus.BAD_REQUEST, e.getMessage());
+                continue;
+            }
+            if (candidates.putIfAbsent(dto.getSwiftCode(), i) != null) {
+                results[i] = bulkItem(dto.getSwiftCode(), HttpStatus.CONFLICT,
+                        "Swift code: " + dto.getSwiftCode() + ", is duplicated in the request");
+            }
+        }
 
-        if (!dto.isHeadquarter()) {
-            String prefix = dto.getSwiftCode().substring(0, 8);
-            var headquarter = swiftCodeRepository.findBySwiftCode(prefix + "XXX");
+        Set<String> lookup = new HashSet<>(candidates.keySet());
+        candidates.keySet().forEach(code -> lookup.add(Bic.headquarterCode(code)));
+        Map<String, SwiftCodeState> existing = swiftCodeRepository.findStatesBySwiftCodeIn(lookup).stream()
+                .collect(Collectors.toMap(SwiftCodeState::swiftCode, Function.identity()));
 
-            headquarter.ifPresent(hq -> {
-                swiftCode.setHeadquarterId(hq);
-                hq.addBranch(swiftCode);
+        HeadquarterLinkingWriter inserts = new HeadquarterLinkingWriter(swiftCodeBulkWriter, MAX_BULK_CODES, rows -> {
+        });
+        for (SwiftCodeState state : existing.values()) {
+            boolean revived = state.isDeleted() && candidates.containsKey(state.swiftCode())
+                    && dtos.get(candidates.get(state.swiftCode())).isHeadquarter();
+            if (state.isHeadquarter() && !state.isDeleted() || revived) {
+                inserts.registerHeadquarter(state.swiftCode(), state.id());
+            }
+        }
 
-                swiftCodeRepository.save(hq);
-            });
+        List<SwiftCode> revivals = new ArrayList<>();
+        List<String> createdCodes = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            String code = candidate.getKey();
+            SwiftCodeState state = existing.get(code);
+            if (state != null && !state.isDeleted()) {
+                results[candidate.getValue()] = bulkItem(code, HttpStatus.CONFLICT, "Swift code: " + code + ", already exists");
+                continue;
+            }
 
-            if (headquarter.isEmpty()) {
-                swiftCodeRepository.save(swiftCode);
+            SwiftCode swiftCode = SwiftCodeMapper.map(dtos.get(candidate.getValue()));
+            if (state != null) {
+                revivals.add(swiftCode);
+            } else {
+                inserts.accept(swiftCode);
             }
-        } else {
-            swiftCodeRepository.save(swiftCode);
+            results[candidate.getValue()] = bulkItem(code, HttpStatus.CREATED, "Swift code " + code + " created!");
+            createdCodes.add(code);
+        }
+
+        if (!revivals.isEmpty()) {
+            swiftCodeBulkWriter.update(revivals);
+        }
+        inserts.finish();
+        if (!createdCodes.isEmpty()) {
+            // read back so the event carries the headquarter links exactly as stored
+            eventPublisher.publishEvent(new SwiftCodesCreatedEvent(swiftCodeRepository.findLiveViewsBySwiftCodeIn(createdCodes)));
         }
-        return new ResponseMessageDTO("Swift code " + swiftCode.getSwiftCode() + " created!");
+
+        return SwiftCodeBulkCreateDTO.builder()
+                .created(createdCodes.size())
+                .rejected(dtos.size() - createdCodes.size())
+                .results(List.of(results))
+                .build();
     }
 
     @Transactional
@@ -81,40 +347,45 @@ public class SwiftCodeService {
         SwiftCode swiftCode = findBySwiftCode(code);
         swiftCode.setDeleted(true);
         swiftCodeRepository.save(swiftCode);
+        eventPublisher.publishEvent(new SwiftCodeDeletedEvent(SwiftCodeMapper.mapToView(swiftCode)));
 
         return new ResponseMessageDTO("Swift code " + code + " deleted!");
     }
 
-    private void validateSwiftCodeCreation(SwiftCodeDTO request) {
-        if (swiftCodeAlreadyExists(request.getSwiftCode())) {
-            throw new SwiftCodeAlreadyExistsException("Swift code: " + request.getSwiftCode() + ", already exists");
+    private void validateSwiftCodeFormat(SwiftCodeDTO request) {
+        if (!Bic.isValid(request.getSwiftCode())) {
+            throw new SwiftCodeValidationException(
+                    "Invalid swift code, should be 8 or 11 uppercase letters or digits, actual: " + request.getSwiftCode()
+            );
         } else if (request.isHeadquarter() && !isValidHeadQuarterSwiftCode(request.getSwiftCode())) {
             throw new SwiftCodeValidationException(
                     "Invalid format for headquarter provided, should end with XXX, actual: " + request.getSwiftCode()
             );
-        } else if (!validISO2CodeWithCountryName(request.getCountryISO2(), request.getCountryName())) {
+        } else if (!countryRegistry.matches(request.getCountryISO2(), request.getCountryName())) {
             throw new SwiftCodeValidationException(
                     "Invalid country combination: ISO2 = '" + request.getCountryISO2() + "', name = '" + request.getCountryName() + "'"
             );
         }
     }
 
-    private boolean validISO2CodeWithCountryName(String countryISO2, String countryName) {
-        if (countryISO2 == null || countryName == null) return false;
+    private static String encodeCursor(String swiftCode) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(swiftCode.getBytes(StandardCharsets.UTF_8));
+    }
 
-        for (String iso : Locale.getISOCountries()) {
-            if (iso.equalsIgnoreCase(countryISO2)) {
-                Locale locale = new Locale.Builder().setRegion(iso).build();
-                String displayCountry = locale.getDisplayCountry(Locale.ENGLISH);
-                return displayCountry.equalsIgnoreCase(countryName);
-            }
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new SwiftCodeValidationException("Invalid cursor: " + cursor);
         }
-        return false;
     }
 
-
-    private boolean swiftCodeAlreadyExists(String swiftCode) {
-        return swiftCodeRepository.findBySwiftCodeAndIsDeletedFalse(swiftCode).isPresent();
+    private static SwiftCodeBulkItemDTO bulkItem(String swiftCode, HttpStatus status, String message) {
+        return SwiftCodeBulkItemDTO.builder()
+                .swiftCode(swiftCode)
+                .status(status.value())
+                .message(message)
+                .build();
     }
 
     private boolean isValidHeadQuarterSwiftCode(String swiftCode) {
@@ -0,0 +1,102 @@
+package com.remitly.service.swift_code.cache;
+
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeEventOrder;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of serialized /country/{countryISO2code} responses keyed by ISO2 code.
+ * An entry is evicted after commit of any create or delete of a code in that country.
+ */
+@Slf4j
+@Component
+public class CountryResponseCache {
+
+    private final Map<String, byte[]> entries;
+    private long generation;
+
+    public CountryResponseCache(@Value("${swift-codes.cache.country.max-entries:300}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public byte[] get(String countryISO2, Supplier<byte[]> loader) {
+        long loadGeneration;
+        synchronized (entries) {
+            byte[] cached = entries.get(countryISO2);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        byte[] loaded = loader.get();
+
+        synchronized (entries) {
+            // an invalidation that raced with the load may have made the loaded bytes stale
+            if (loadGeneration == generation) {
+                entries.put(countryISO2, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(String countryISO2) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(countryISO2);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodeCreatedEvent event) {
+        log.debug("Evicting cached swift codes of country: {}", event.swiftCode().countryISO2());
+        evict(event.swiftCode().countryISO2());
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodesCreatedEvent event) {
+        event.swiftCodes().stream()
+                .map(SwiftCodeView::countryISO2)
+                .distinct()
+                .forEach(this::evict);
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(SwiftCodeDeletedEvent event) {
+        log.debug("Evicting cached swift codes of country: {}", event.swiftCode().countryISO2());
+        evict(event.swiftCode().countryISO2());
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReloaded(SwiftCodesReloadedEvent event) {
+        clear();
+    }
+}
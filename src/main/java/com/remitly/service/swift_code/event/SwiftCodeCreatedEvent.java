@@ -0,0 +1,6 @@
+package com.remitly.service.swift_code.event;
+
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+
+public record SwiftCodeCreatedEvent(SwiftCodeView swiftCode) {
+}
@@ -0,0 +1,18 @@
+package com.remitly.service.swift_code.event;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Order of the after-commit listeners of the swift code events. The read-your-writes window
+ * opens before the read models are refreshed, so their rebuild reads from the primary, and the
+ * versions are bumped only once every read model serves the new data.
+ */
+public final class SwiftCodeEventOrder {
+
+    public static final int READ_YOUR_WRITES = Ordered.HIGHEST_PRECEDENCE;
+    public static final int READ_MODELS = 0;
+    public static final int VERSIONS = 100;
+
+    private SwiftCodeEventOrder() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.remitly.service.swift_code.event;
+
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+
+import java.util.List;
+
+/**
+ * Published once per bulk create with every created or revived swift code, so read models
+ * apply the batch in one step instead of being rebuilt from the database.
+ */
+public record SwiftCodesCreatedEvent(List<SwiftCodeView> swiftCodes) {
+}
@@ -0,0 +1,8 @@
+package com.remitly.service.swift_code.event;
+
+/**
+ * Published when swift codes were changed in bulk (e.g. by an import) and every
+ * in-memory read model has to be rebuilt from the database.
+ */
+public record SwiftCodesReloadedEvent() {
+}
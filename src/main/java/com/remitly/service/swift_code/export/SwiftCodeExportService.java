@@ -0,0 +1,72 @@
+package com.remitly.service.swift_code.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.remitly.controller.swift_code.dto.SwiftCodeExportDTO;
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.datasource.VersionedReads;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes live swift codes as newline-delimited JSON straight from a database cursor, one
+ * {@link SwiftCodeExportDTO} per line. Rows are projections, so nothing accumulates in the
+ * persistence context and heap use does not depend on the size of the result.
+ */
+@Slf4j
+@Service
+public class SwiftCodeExportService {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public SwiftCodeExportService(SwiftCodeRepository swiftCodeRepository, ObjectMapper objectMapper) {
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(SwiftCodeExportDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public long writeAll(OutputStream outputStream) throws IOException {
+        log.info("Streaming export of all swift codes");
+        try (Stream<SwiftCodeView> rows = VersionedReads.call(swiftCodeRepository::streamLiveViews)) {
+            return write(rows, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long writeByCountryISO2code(String countryISO2code, OutputStream outputStream) throws IOException {
+        log.info("Streaming swift codes for countryISO2: {}", countryISO2code);
+        try (Stream<SwiftCodeView> rows = VersionedReads.call(
+                () -> swiftCodeRepository.streamLiveViewsByCountryISO2(countryISO2code))) {
+            return write(rows, outputStream);
+        }
+    }
+
+    private long write(Stream<SwiftCodeView> rows, OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<SwiftCodeView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeValue(generator, SwiftCodeMapper.mapToExport(iterator.next()));
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+}
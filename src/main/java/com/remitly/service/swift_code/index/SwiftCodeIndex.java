@@ -0,0 +1,250 @@
+package com.remitly.service.swift_code.index;
+
+import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeEventOrder;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable in-memory copy of every live swift code together with the
+ * headquarter -> branches adjacency and a sorted array of codes for prefix search,
+ * so lookups never reach the database. Writes made through {@code SwiftCodeService}
+ * are applied after commit by swapping in a new snapshot. Changes applied while a rebuild is
+ * loading are replayed onto the rebuilt snapshot, as the load may have missed them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SwiftCodeIndex {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final Object rebuildLock = new Object();
+    private final Object changeLock = new Object();
+    private List<UnaryOperator<Snapshot>> changesDuringRebuild;
+
+    @PostConstruct
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (changeLock) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                long start = System.nanoTime();
+                List<SwiftCodeView> views = swiftCodeRepository.findAllLiveViews();
+                Snapshot rebuilt = Snapshot.of(views);
+                synchronized (changeLock) {
+                    for (UnaryOperator<Snapshot> change : changesDuringRebuild) {
+                        rebuilt = change.apply(rebuilt);
+                    }
+                    snapshot.set(rebuilt);
+                }
+                log.info("Built swift code index with {} codes in {} ms",
+                        views.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } finally {
+                synchronized (changeLock) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public Optional<SwiftCodeDTO> find(String swiftCode) {
+        Snapshot current = snapshot.get();
+        SwiftCodeView view = current.byCode().get(swiftCode);
+        if (view == null) {
+            return Optional.empty();
+        }
+        return Optional.of(SwiftCodeMapper.map(view, current.branchesOf(swiftCode)));
+    }
+
+    public boolean contains(String swiftCode) {
+        return snapshot.get().byCode().containsKey(swiftCode);
+    }
+
+    /**
+     * Resolves all codes against the same snapshot; codes that are not present are left out of
+     * the result, which keeps the iteration order of {@code swiftCodes}.
+     */
+    public Map<String, SwiftCodeDTO> findAll(Collection<String> swiftCodes) {
+        Snapshot current = snapshot.get();
+        Map<String, SwiftCodeDTO> result = new LinkedHashMap<>();
+        for (String swiftCode : swiftCodes) {
+            SwiftCodeView view = current.byCode().get(swiftCode);
+            if (view != null) {
+                result.put(swiftCode, SwiftCodeMapper.map(view, current.branchesOf(swiftCode)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} live codes starting with {@code prefix}, in code order.
+     */
+    public List<SwiftCodeView> findByPrefix(String prefix, int limit) {
+        Snapshot current = snapshot.get();
+        String[] codes = current.sortedCodes();
+        List<SwiftCodeView> result = new ArrayList<>(Math.min(limit, 16));
+        for (int i = insertionPoint(codes, prefix); i < codes.length && result.size() < limit; i++) {
+            if (!codes[i].startsWith(prefix)) {
+                break;
+            }
+            result.add(current.byCode().get(codes[i]));
+        }
+        return result;
+    }
+
+    public int size() {
+        return snapshot.get().byCode().size();
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodeCreatedEvent event) {
+        apply(current -> current.with(event.swiftCode()));
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodesCreatedEvent event) {
+        apply(current -> current.with(event.swiftCodes()));
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(SwiftCodeDeletedEvent event) {
+        apply(current -> current.without(event.swiftCode()));
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReloaded(SwiftCodesReloadedEvent event) {
+        rebuild();
+    }
+
+    private void apply(UnaryOperator<Snapshot> change) {
+        synchronized (changeLock) {
+            snapshot.set(change.apply(snapshot.get()));
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private static int insertionPoint(String[] sortedCodes, String code) {
+        int index = Arrays.binarySearch(sortedCodes, code);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private record Snapshot(
+            Map<String, SwiftCodeView> byCode,
+            Map<String, List<SwiftCodeView>> branchesByHeadquarter,
+            String[] sortedCodes
+    ) {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), new String[0]);
+
+        private static Snapshot of(Collection<SwiftCodeView> views) {
+            Map<String, SwiftCodeView> byCode = new HashMap<>(views.size() * 2);
+            Map<String, List<SwiftCodeView>> branches = new HashMap<>();
+
+            for (SwiftCodeView view : views) {
+                byCode.put(view.swiftCode(), view);
+                if (view.headquarterSwiftCode() != null) {
+                    branches.computeIfAbsent(view.headquarterSwiftCode(), key -> new ArrayList<>()).add(view);
+                }
+            }
+            branches.replaceAll((headquarter, list) -> List.copyOf(list));
+            String[] sortedCodes = byCode.keySet().toArray(new String[0]);
+            Arrays.sort(sortedCodes);
+
+            return new Snapshot(Collections.unmodifiableMap(byCode), Collections.unmodifiableMap(branches), sortedCodes);
+        }
+
+        private List<SwiftCodeView> branchesOf(String swiftCode) {
+            return branchesByHeadquarter.getOrDefault(swiftCode, List.of());
+        }
+
+        private Snapshot with(SwiftCodeView view) {
+            Map<String, SwiftCodeView> byCode = new HashMap<>(this.byCode);
+            byCode.put(view.swiftCode(), view);
+
+            Map<String, List<SwiftCodeView>> branches = this.branchesByHeadquarter;
+            if (view.headquarterSwiftCode() != null) {
+                List<SwiftCodeView> siblings = new ArrayList<>(branchesOf(view.headquarterSwiftCode()));
+                siblings.removeIf(branch -> branch.swiftCode().equals(view.swiftCode()));
+                siblings.add(view);
+
+                branches = new HashMap<>(branches);
+                branches.put(view.headquarterSwiftCode(), List.copyOf(siblings));
+                branches = Collections.unmodifiableMap(branches);
+            }
+            return new Snapshot(Collections.unmodifiableMap(byCode), branches, withCode(view.swiftCode()));
+        }
+
+        private Snapshot with(Collection<SwiftCodeView> views) {
+            Map<String, SwiftCodeView> merged = new HashMap<>(byCode);
+            views.forEach(view -> merged.put(view.swiftCode(), view));
+            return of(merged.values());
+        }
+
+        private Snapshot without(SwiftCodeView view) {
+            Map<String, SwiftCodeView> byCode = new HashMap<>(this.byCode);
+            byCode.remove(view.swiftCode());
+
+            Map<String, List<SwiftCodeView>> branches = new HashMap<>(this.branchesByHeadquarter);
+            branches.remove(view.swiftCode());
+            if (view.headquarterSwiftCode() != null) {
+                List<SwiftCodeView> siblings = branches.getOrDefault(view.headquarterSwiftCode(), List.of()).stream()
+                        .filter(branch -> !branch.swiftCode().equals(view.swiftCode()))
+                        .toList();
+                if (siblings.isEmpty()) {
+                    branches.remove(view.headquarterSwiftCode());
+                } else {
+                    branches.put(view.headquarterSwiftCode(), siblings);
+                }
+            }
+            return new Snapshot(Collections.unmodifiableMap(byCode), Collections.unmodifiableMap(branches),
+                    withoutCode(view.swiftCode()));
+        }
+
+        private String[] withCode(String swiftCode) {
+            int index = Arrays.binarySearch(sortedCodes, swiftCode);
+            if (index >= 0) {
+                return sortedCodes;
+            }
+            int insertAt = -index - 1;
+            String[] codes = new String[sortedCodes.length + 1];
+            System.arraycopy(sortedCodes, 0, codes, 0, insertAt);
+            codes[insertAt] = swiftCode;
+            System.arraycopy(sortedCodes, insertAt, codes, insertAt + 1, sortedCodes.length - insertAt);
+            return codes;
+        }
+
+        private String[] withoutCode(String swiftCode) {
+            int index = Arrays.binarySearch(sortedCodes, swiftCode);
+            if (index < 0) {
+                return sortedCodes;
+            }
+            String[] codes = new String[sortedCodes.length - 1];
+            System.arraycopy(sortedCodes, 0, codes, 0, index);
+            System.arraycopy(sortedCodes, index + 1, codes, index, codes.length - index);
+            return codes;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.remitly.service.swift_code.metrics;
+
+import com.remitly.service.timing.RequestTiming;
+import com.remitly.service.timing.TimingStage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Application meters next to the ones Spring Boot already records for requests
+ * ({@code http.server.requests}), repository calls ({@code spring.data.repository.invocations}),
+ * Hikari and the JVM. Tag values come from fixed sets (mapping names, outcomes and exception
+ * classes), never from request data. Mapping time also goes to the current {@link RequestTiming}.
+ */
+@Component
+public class SwiftCodeMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> mappingTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public SwiftCodeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T timeMapping(String mapping, Supplier<T> mapper) {
+        Timer timer = mappingTimers.computeIfAbsent(mapping, name -> Timer.builder("swift_codes.mapping")
+                .description("Time spent mapping swift codes to response DTOs")
+                .tag("mapping", name)
+                .register(meterRegistry));
+        long start = System.nanoTime();
+        try {
+            return mapper.get();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            RequestTiming.record(TimingStage.MAP, nanos);
+        }
+    }
+
+    public void recordError(String outcome, Exception exception) {
+        String exceptionName = exception.getClass().getSimpleName();
+        errorCounters.computeIfAbsent(outcome + ':' + exceptionName, key -> Counter.builder("swift_codes.errors")
+                        .description("Requests rejected by GlobalExceptionHandler")
+                        .tag("outcome", outcome)
+                        .tag("exception", exceptionName)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,6 @@
+package com.remitly.service.swift_code.search;
+
+public enum TextSearchMode {
+    FULL_TEXT,
+    SIMILARITY
+}
@@ -0,0 +1,232 @@
+package com.remitly.service.swift_code.search;
+
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeEventOrder;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over the bank name and address of every live swift code.
+ * Candidates are ranked by trigram (Jaccard) similarity of the query with the better matching
+ * of the two fields, in the spirit of {@code pg_trgm}. Creates and deletes are applied
+ * incrementally after commit; only a reload rebuilds the whole index, replaying the changes
+ * applied while it was loading.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrigramSearchIndex {
+
+    private final SwiftCodeRepository swiftCodeRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+
+    private Map<String, Document> documents = new HashMap<>();
+    private Map<String, Set<String>> bankNamePostings = new HashMap<>();
+    private Map<String, Set<String>> addressPostings = new HashMap<>();
+    private List<Runnable> changesDuringRebuild;
+
+    public record Match(SwiftCodeView swiftCode, double score) {
+    }
+
+    private record Document(SwiftCodeView view, Set<String> bankNameTrigrams, Set<String> addressTrigrams) {
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            setChangesDuringRebuild(new ArrayList<>());
+            try {
+                long start = System.nanoTime();
+                List<SwiftCodeView> views = swiftCodeRepository.findAllLiveViews();
+
+                Map<String, Document> newDocuments = new HashMap<>(views.size() * 2);
+                Map<String, Set<String>> newBankNamePostings = new HashMap<>();
+                Map<String, Set<String>> newAddressPostings = new HashMap<>();
+                for (SwiftCodeView view : views) {
+                    add(view, newDocuments, newBankNamePostings, newAddressPostings);
+                }
+
+                lock.writeLock().lock();
+                try {
+                    documents = newDocuments;
+                    bankNamePostings = newBankNamePostings;
+                    addressPostings = newAddressPostings;
+                    changesDuringRebuild.forEach(Runnable::run);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("Built trigram search index with {} codes in {} ms",
+                        views.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } finally {
+                setChangesDuringRebuild(null);
+            }
+        }
+    }
+
+    public List<Match> search(String query, int limit, double minScore) {
+        Set<String> queryTrigrams = trigrams(query);
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, int[]> shared = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                for (String code : bankNamePostings.getOrDefault(trigram, Set.of())) {
+                    shared.computeIfAbsent(code, key -> new int[2])[0]++;
+                }
+                for (String code : addressPostings.getOrDefault(trigram, Set.of())) {
+                    shared.computeIfAbsent(code, key -> new int[2])[1]++;
+                }
+            }
+
+            for (Map.Entry<String, int[]> candidate : shared.entrySet()) {
+                Document document = documents.get(candidate.getKey());
+                double score = Math.max(
+                        similarity(candidate.getValue()[0], queryTrigrams.size(), document.bankNameTrigrams().size()),
+                        similarity(candidate.getValue()[1], queryTrigrams.size(), document.addressTrigrams().size())
+                );
+                if (score >= minScore) {
+                    matches.add(new Match(document.view(), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(match -> match.swiftCode().swiftCode()));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodeCreatedEvent event) {
+        change(() -> upsert(event.swiftCode()));
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodesCreatedEvent event) {
+        change(() -> event.swiftCodes().forEach(this::upsert));
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(SwiftCodeDeletedEvent event) {
+        change(() -> remove(event.swiftCode().swiftCode()));
+    }
+
+    @Order(SwiftCodeEventOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReloaded(SwiftCodesReloadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Applies the change to the live maps and, while a rebuild is loading, keeps it for replay
+     * onto the rebuilt ones.
+     */
+    private void change(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setChangesDuringRebuild(List<Runnable> changes) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void upsert(SwiftCodeView view) {
+        remove(view.swiftCode());
+        add(view, documents, bankNamePostings, addressPostings);
+    }
+
+    private static void add(
+            SwiftCodeView view,
+            Map<String, Document> documents,
+            Map<String, Set<String>> bankNamePostings,
+            Map<String, Set<String>> addressPostings
+    ) {
+        Document document = new Document(view, trigrams(view.bankName()), trigrams(view.address()));
+        documents.put(view.swiftCode(), document);
+        document.bankNameTrigrams().forEach(trigram ->
+                bankNamePostings.computeIfAbsent(trigram, key -> new HashSet<>()).add(view.swiftCode()));
+        document.addressTrigrams().forEach(trigram ->
+                addressPostings.computeIfAbsent(trigram, key -> new HashSet<>()).add(view.swiftCode()));
+    }
+
+    private void remove(String swiftCode) {
+        Document document = documents.remove(swiftCode);
+        if (document != null) {
+            removePostings(bankNamePostings, document.bankNameTrigrams(), swiftCode);
+            removePostings(addressPostings, document.addressTrigrams(), swiftCode);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<String>> postings, Set<String> trigrams, String swiftCode) {
+        for (String trigram : trigrams) {
+            Set<String> codes = postings.get(trigram);
+            if (codes != null && codes.remove(swiftCode) && codes.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static double similarity(int shared, int queryTrigrams, int fieldTrigrams) {
+        return shared == 0 ? 0 : (double) shared / (queryTrigrams + fieldTrigrams - shared);
+    }
+
+    /**
+     * Splits the text into upper-cased alphanumeric words, pads every word with two leading
+     * blanks and one trailing blank and returns the set of 3-character windows.
+     */
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+        StringBuilder word = new StringBuilder("  ");
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? Character.toUpperCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 2) {
+                word.append(' ');
+                for (int from = 0; from + 3 <= word.length(); from++) {
+                    trigrams.add(word.substring(from, from + 3));
+                }
+                word.setLength(2);
+            }
+        }
+        return trigrams;
+    }
+}
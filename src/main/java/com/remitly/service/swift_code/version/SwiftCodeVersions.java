@@ -0,0 +1,94 @@
+package com.remitly.service.swift_code.version;
+
+import com.remitly.dao.model.swift_code.Bic;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeEventOrder;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions of the dataset, of every country and of every swift code, used as strong ETags by the
+ * GET endpoints. A create or delete bumps the dataset, the code's country, the code and its
+ * headquarter (per code for a bulk create); a reload bumps everything. Keys that never changed fall back to the version of
+ * the last reload, so only codes changed since then are tracked.
+ * <p>
+ * Listeners run after the read models and caches have been updated (see
+ * {@link SwiftCodeEventOrder}), and callers take the tag before reading the data, so a tag is
+ * never paired with data older than it. Database reads paired with a tag run as
+ * {@link com.remitly.dao.datasource.VersionedReads}, so with read replicas they see the change
+ * too. Tags carry the start time of this instance and do not survive a restart.
+ */
+@Component
+public class SwiftCodeVersions {
+
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong dataset = new AtomicLong();
+    private final Map<String, Long> countries = new ConcurrentHashMap<>();
+    private final Map<String, Long> swiftCodes = new ConcurrentHashMap<>();
+    private volatile long reloaded;
+
+    public String datasetTag() {
+        return tag(dataset.get());
+    }
+
+    public String countryTag(String countryISO2) {
+        return tag(versionOf(countries, countryISO2));
+    }
+
+    public String swiftCodeTag(String swiftCode) {
+        return tag(versionOf(swiftCodes, swiftCode));
+    }
+
+    @Order(SwiftCodeEventOrder.VERSIONS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodeCreatedEvent event) {
+        changed(event.swiftCode());
+    }
+
+    @Order(SwiftCodeEventOrder.VERSIONS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(SwiftCodesCreatedEvent event) {
+        event.swiftCodes().forEach(this::changed);
+    }
+
+    @Order(SwiftCodeEventOrder.VERSIONS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(SwiftCodeDeletedEvent event) {
+        changed(event.swiftCode());
+    }
+
+    @Order(SwiftCodeEventOrder.VERSIONS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReloaded(SwiftCodesReloadedEvent event) {
+        reloaded = dataset.incrementAndGet();
+        countries.clear();
+        swiftCodes.clear();
+    }
+
+    private void changed(SwiftCodeView swiftCode) {
+        long version = dataset.incrementAndGet();
+        countries.merge(swiftCode.countryISO2(), version, Math::max);
+        swiftCodes.merge(swiftCode.swiftCode(), version, Math::max);
+        // a headquarter's response lists its branches
+        if (Bic.isValid(swiftCode.swiftCode())) {
+            swiftCodes.merge(Bic.headquarterCode(swiftCode.swiftCode()), version, Math::max);
+        }
+    }
+
+    private long versionOf(Map<String, Long> versions, String key) {
+        return Math.max(versions.getOrDefault(key, 0L), reloaded);
+    }
+
+    private String tag(long version) {
+        return instanceId + "-" + version;
+    }
+}
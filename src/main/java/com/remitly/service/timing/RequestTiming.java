@@ -0,0 +1,78 @@
+package com.remitly.service.timing;
+
+import java.util.Locale;
+
+/**
+ * Durations of the {@link TimingStage}s of one request, summed over all calls of a stage. The
+ * instance of the current request is bound to its thread, so recording from code that runs
+ * outside a request (imports, listeners) is a single thread-local read and nothing else.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingStage[] STAGES = TimingStage.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] stageNanos = new long[STAGES.length];
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void record(TimingStage stage, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.stageNanos[stage.ordinal()] += nanos;
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * {@code Server-Timing} header value with every recorded stage and the time spent in the
+     * application so far as {@code app}, in milliseconds.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(96);
+        for (TimingStage stage : STAGES) {
+            long nanos = stageNanos[stage.ordinal()];
+            if (nanos > 0) {
+                header.append(stage.getMetricName())
+                        .append(";desc=\"").append(stage.getDescription()).append("\";dur=")
+                        .append(millis(nanos))
+                        .append(", ");
+            }
+        }
+        return header.append("app;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    /**
+     * The same durations as {@code key=value} pairs for structured log lines.
+     */
+    public String toLogFields() {
+        StringBuilder fields = new StringBuilder(64).append("total_ms=").append(millis(elapsedNanos()));
+        for (TimingStage stage : STAGES) {
+            fields.append(' ').append(stage.getMetricName()).append("_ms=").append(millis(stageNanos[stage.ordinal()]));
+        }
+        return fields.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
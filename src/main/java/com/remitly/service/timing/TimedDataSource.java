@@ -0,0 +1,37 @@
+package com.remitly.service.timing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Records the time spent waiting for a pooled connection as {@link TimingStage#POOL}.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    public TimedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            RequestTiming.record(TimingStage.POOL, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            RequestTiming.record(TimingStage.POOL, System.nanoTime() - start);
+        }
+    }
+}
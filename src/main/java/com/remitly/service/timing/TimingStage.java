@@ -0,0 +1,24 @@
+package com.remitly.service.timing;
+
+public enum TimingStage {
+    POOL("pool", "Connection checkout"),
+    DB("db", "Repository calls"),
+    MAP("map", "DTO mapping"),
+    JSON("json", "JSON serialization");
+
+    private final String metricName;
+    private final String description;
+
+    TimingStage(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
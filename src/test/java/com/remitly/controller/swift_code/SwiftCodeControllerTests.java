@@ -6,11 +6,20 @@ import com.remitly.controller.exception.swift_code.SwiftCodeNotFoundException;
 import com.remitly.controller.exception.swift_code.SwiftCodeValidationException;
 import com.remitly.controller.swift_code.controller.SwiftCodeController;
 import com.remitly.controller.swift_code.dto.ResponseMessageDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkCreateDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkItemDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodeBranchDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeLookupDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeLookupRequestDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeSearchResultDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
 import com.remitly.service.parser.ExcelParserService;
 import com.remitly.service.swift_code.SwiftCodeService;
+import com.remitly.service.swift_code.export.SwiftCodeExportService;
+import com.remitly.service.swift_code.metrics.SwiftCodeMetrics;
+import com.remitly.service.swift_code.search.TextSearchMode;
+import com.remitly.service.swift_code.version.SwiftCodeVersions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +27,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -36,12 +52,21 @@ public class SwiftCodeControllerTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private SwiftCodeMetrics swiftCodeMetrics;
+
     @MockitoBean
     private SwiftCodeService swiftCodeService;
 
     @MockitoBean
     private ExcelParserService excelParserService;
 
+    @MockitoBean
+    private SwiftCodeExportService swiftCodeExportService;
+
+    @MockitoBean
+    private SwiftCodeVersions swiftCodeVersions;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -168,8 +193,8 @@ public class SwiftCodeControllerTests {
                                 .build()
                 ))
                 .build();
-        when(swiftCodeService.getAllSwiftCodesByCountryISO2code(response.getCountryISO2()))
-                .thenReturn(response);
+        when(swiftCodeService.getAllSwiftCodesByCountryISO2codeAsJson(response.getCountryISO2()))
+                .thenReturn(objectMapper.writeValueAsBytes(response));
 
         mockMvc.perform(get("/v1/swift-codes/country/" + response.getCountryISO2()))
                 .andDo(print())
@@ -181,6 +206,102 @@ public class SwiftCodeControllerTests {
                 .andExpect(jsonPath("$.swiftCodes", hasSize(3)));
     }
 
+    @Test
+    public void testGetSwiftCodesPageByCountryISO2code() throws Exception {
+        SwiftCodesCountryISO2DTO response = SwiftCodesCountryISO2DTO.builder()
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .swiftCodes(List.of(SwiftCodeBranchDTO.builder()
+                        .swiftCode("BCHICLRMXXX")
+                        .build()))
+                .nextCursor("QkNISUNMUk1YWFg")
+                .build();
+        when(swiftCodeService.getSwiftCodesPageByCountryISO2code("PL", 1, null)).thenReturn(response);
+
+        mockMvc.perform(get("/v1/swift-codes/country/pl").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor", is("QkNISUNMUk1YWFg")));
+    }
+
+    @Test
+    public void testGetSwiftCode_returnsETag() throws Exception {
+        when(swiftCodeVersions.swiftCodeTag("BCHICLRMXXX")).thenReturn("abc-7");
+        when(swiftCodeService.getSwiftCode("BCHICLRMXXX"))
+                .thenReturn(SwiftCodeDTO.builder().swiftCode("BCHICLRMXXX").build());
+
+        mockMvc.perform(get("/v1/swift-codes/BCHICLRMXXX").header("If-None-Match", "\"abc-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-7\""))
+                .andExpect(jsonPath("$.swiftCode", is("BCHICLRMXXX")));
+    }
+
+    @Test
+    public void testGetSwiftCode_notModified() throws Exception {
+        when(swiftCodeVersions.swiftCodeTag("BCHICLRMXXX")).thenReturn("abc-7");
+        when(swiftCodeService.existsSwiftCode("BCHICLRMXXX")).thenReturn(true);
+
+        mockMvc.perform(get("/v1/swift-codes/BCHICLRMXXX").header("If-None-Match", "\"abc-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-7\""))
+                .andExpect(content().string(""));
+
+        verify(swiftCodeService, never()).getSwiftCode(anyString());
+    }
+
+    @Test
+    public void testGetSwiftCode_normalizesCodeBeforeTagging() throws Exception {
+        when(swiftCodeVersions.swiftCodeTag("BCHICLRMXXX")).thenReturn("abc-7");
+        when(swiftCodeService.existsSwiftCode("BCHICLRMXXX")).thenReturn(true);
+
+        mockMvc.perform(get("/v1/swift-codes/bchiclrmxxx").header("If-None-Match", "\"abc-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-7\""));
+    }
+
+    @Test
+    public void testGetSwiftCode_unknownCodeWithMatchingETag_returnsNotFound() throws Exception {
+        when(swiftCodeVersions.swiftCodeTag("AAAAAAAAXXX")).thenReturn("abc-7");
+        when(swiftCodeService.existsSwiftCode("AAAAAAAAXXX")).thenReturn(false);
+        when(swiftCodeService.getSwiftCode("AAAAAAAAXXX"))
+                .thenThrow(new SwiftCodeNotFoundException("Swift code AAAAAAAAXXX, not found"));
+
+        mockMvc.perform(get("/v1/swift-codes/AAAAAAAAXXX").header("If-None-Match", "\"abc-7\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGetAllSwiftCodesByCountryISO2code_notModified() throws Exception {
+        when(swiftCodeVersions.countryTag("PL")).thenReturn("abc-3");
+
+        mockMvc.perform(get("/v1/swift-codes/country/pl").header("If-None-Match", "\"abc-3\""))
+                .andExpect(status().isNotModified());
+
+        verify(swiftCodeService, never()).getAllSwiftCodesByCountryISO2codeAsJson(anyString());
+    }
+
+    @Test
+    public void testGetAllSwiftCodesByCountryISO2code_variesOnAccept() throws Exception {
+        when(swiftCodeVersions.countryTag("PL")).thenReturn("abc-3");
+
+        mockMvc.perform(get("/v1/swift-codes/country/pl").header("If-None-Match", "\"abc-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", containsString("Accept")));
+        mockMvc.perform(get("/v1/swift-codes/country/pl").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Vary", containsString("Accept")));
+    }
+
+    @Test
+    public void testStreamSwiftCodesByCountryISO2code_usesOwnETag() throws Exception {
+        when(swiftCodeVersions.countryTag("PL")).thenReturn("abc-3");
+
+        mockMvc.perform(get("/v1/swift-codes/country/pl")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header("If-None-Match", "\"abc-3\""))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("ETag", "\"abc-3-ndjson\""));
+    }
+
     @Test
     public void testCreateSwiftCode() throws Exception {
         SwiftCodeDTO request = SwiftCodeDTO.builder()
@@ -333,5 +454,121 @@ public class SwiftCodeControllerTests {
                 .andExpect(jsonPath("$.message", is("Swift code " + swiftCode + ", not found")));
     }
 
+    @Test
+    public void testLookupSwiftCodes() throws Exception {
+        SwiftCodeLookupDTO response = SwiftCodeLookupDTO.builder()
+                .found(List.of(SwiftCodeDTO.builder()
+                        .swiftCode("BCHICLRMXXX")
+                        .isHeadquarter(true)
+                        .branches(List.of())
+                        .build()))
+                .missing(List.of("ZZZZZZZZXXX"))
+                .build();
+        List<String> codes = List.of("BCHICLRMXXX", "ZZZZZZZZXXX");
+        when(swiftCodeService.lookupSwiftCodes(codes)).thenReturn(response);
+
+        mockMvc.perform(post("/v1/swift-codes/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeLookupRequestDTO(codes)))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found", hasSize(1)))
+                .andExpect(jsonPath("$.found[0].swiftCode", is("BCHICLRMXXX")))
+                .andExpect(jsonPath("$.missing[0]", is("ZZZZZZZZXXX")));
+    }
+
+    @Test
+    public void testCreateSwiftCodes() throws Exception {
+        SwiftCodeDTO request = SwiftCodeDTO.builder()
+                .address("address")
+                .bankName("bank")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(true)
+                .swiftCode("BCHICLRMXXX")
+                .build();
+        SwiftCodeBulkCreateDTO response = SwiftCodeBulkCreateDTO.builder()
+                .created(1)
+                .rejected(0)
+                .results(List.of(SwiftCodeBulkItemDTO.builder()
+                        .swiftCode("BCHICLRMXXX")
+                        .status(201)
+                        .message("Swift code BCHICLRMXXX created!")
+                        .build()))
+                .build();
+        when(swiftCodeService.createSwiftCodes(ArgumentMatchers.anyList())).thenReturn(response);
 
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request)))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.results[0].swiftCode", is("BCHICLRMXXX")))
+                .andExpect(jsonPath("$.results[0].status", is(201)));
+    }
+
+    @Test
+    public void testStreamSwiftCodesByCountryISO2code_asNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"swiftCode\":\"BCHICLRMXXX\"}\n{\"swiftCode\":\"BCHICLRM001\"}\n"
+                    .getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(swiftCodeExportService).writeByCountryISO2code(ArgumentMatchers.eq("PL"), ArgumentMatchers.any());
+
+        MvcResult result = mockMvc.perform(get("/v1/swift-codes/country/pl").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"swiftCode\":\"BCHICLRMXXX\"}\n{\"swiftCode\":\"BCHICLRM001\"}\n"));
+    }
+
+    @Test
+    public void testSearchSwiftCodesByPrefix() throws Exception {
+        when(swiftCodeService.searchSwiftCodesByPrefix("BCHI", 10)).thenReturn(List.of(
+                SwiftCodeBranchDTO.builder()
+                        .swiftCode("BCHICLRMXXX")
+                        .isHeadquarter(true)
+                        .build()));
+
+        mockMvc.perform(get("/v1/swift-codes/search").param("prefix", "BCHI"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].swiftCode", is("BCHICLRMXXX")));
+    }
+
+    @Test
+    public void testSearchSwiftCodesByName() throws Exception {
+        when(swiftCodeService.searchSwiftCodesByName("pko bp", 10)).thenReturn(List.of(
+                SwiftCodeSearchResultDTO.builder()
+                        .swiftCode("BPKOPLPWXXX")
+                        .bankName("PKO BANK POLSKI S.A.")
+                        .score(0.42)
+                        .build()));
+
+        mockMvc.perform(get("/v1/swift-codes/search/fuzzy").param("query", "pko bp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].swiftCode", is("BPKOPLPWXXX")))
+                .andExpect(jsonPath("$[0].score", is(0.42)));
+    }
+
+    @Test
+    public void testSearchSwiftCodesByText() throws Exception {
+        when(swiftCodeService.searchSwiftCodesByText("pko warszawa", TextSearchMode.SIMILARITY, 1, 20)).thenReturn(List.of(
+                SwiftCodeSearchResultDTO.builder()
+                        .swiftCode("BPKOPLPWXXX")
+                        .score(0.5)
+                        .build()));
+
+        mockMvc.perform(get("/v1/swift-codes/search/text")
+                        .param("query", "pko warszawa")
+                        .param("mode", "SIMILARITY")
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].swiftCode", is("BPKOPLPWXXX")));
+    }
 }
@@ -0,0 +1,68 @@
+package com.remitly.controller.swift_code;
+
+import com.remitly.controller.exception.import_job.ImportJobNotFoundException;
+import com.remitly.controller.swift_code.controller.SwiftCodeImportController;
+import com.remitly.service.parser.ImportJob;
+import com.remitly.service.parser.ImportJobService;
+import com.remitly.service.parser.ImportMode;
+import com.remitly.service.swift_code.metrics.SwiftCodeMetrics;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SwiftCodeImportController.class)
+public class SwiftCodeImportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SwiftCodeMetrics swiftCodeMetrics;
+
+    @MockitoBean
+    private ImportJobService importJobService;
+
+    @Test
+    public void testCreateImport() throws Exception {
+        UUID id = UUID.randomUUID();
+        ImportJob job = new ImportJob(id, "codes.xlsx", ImportMode.DELTA, Path.of("codes.xlsx"));
+        when(importJobService.submit(ArgumentMatchers.any(), ArgumentMatchers.eq(ImportMode.DELTA))).thenReturn(job);
+
+        mockMvc.perform(multipart("/v1/swift-codes/imports")
+                        .file(new MockMultipartFile("file", "codes.xlsx", null, new byte[]{1, 2, 3}))
+                        .param("mode", "DELTA"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/v1/swift-codes/imports/" + id))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id", is(id.toString())))
+                .andExpect(jsonPath("$.fileName", is("codes.xlsx")))
+                .andExpect(jsonPath("$.mode", is("DELTA")))
+                .andExpect(jsonPath("$.state", is("QUEUED")));
+    }
+
+    @Test
+    public void testGetImport_notFound() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(importJobService.getJob(id))
+                .thenThrow(new ImportJobNotFoundException("Import job " + id + ", not found"));
+
+        mockMvc.perform(get("/v1/swift-codes/imports/" + id))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.message", is("Import job " + id + ", not found")));
+    }
+}
@@ -0,0 +1,70 @@
+package com.remitly.controller.timing;
+
+import com.remitly.service.timing.RequestTiming;
+import com.remitly.service.timing.TimingStage;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerTimingFilterTests {
+
+    private final ServerTimingFilter filter = filter(true);
+
+    @Test
+    public void testHeader_listsRecordedStagesBeforeBodyIsWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/swift-codes/AAISALTRXXX"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest request, HttpServletResponse servletResponse) throws IOException {
+                        RequestTiming.record(TimingStage.DB, TimeUnit.MILLISECONDS.toNanos(3));
+                        RequestTiming.record(TimingStage.MAP, TimeUnit.MICROSECONDS.toNanos(250));
+                        servletResponse.getOutputStream().write('{');
+                        RequestTiming.record(TimingStage.JSON, TimeUnit.MILLISECONDS.toNanos(1));
+                    }
+                }));
+
+        String header = response.getHeader(ServerTimingResponseWrapper.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;desc=\"Repository calls\";dur=3.000, map;desc=\"DTO mapping\";dur=0.250, app;dur="));
+        assertFalse(header.contains("json"));
+        assertFalse(header.contains("pool"));
+        assertFalse(RequestTiming.isActive());
+    }
+
+    @Test
+    public void testHeader_addedToEmptyResponses() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/v1/swift-codes/AAISALTRXXX"), response, new MockFilterChain());
+
+        assertTrue(response.getHeader(ServerTimingResponseWrapper.HEADER).startsWith("app;dur="));
+    }
+
+    @Test
+    public void testDisabled_noHeaderAndNothingRecorded() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(false).doFilter(new MockHttpServletRequest("GET", "/"), response, new MockFilterChain());
+
+        assertNull(response.getHeader(ServerTimingResponseWrapper.HEADER));
+        assertFalse(RequestTiming.isActive());
+    }
+
+    private static ServerTimingFilter filter(boolean enabled) {
+        ServerTimingFilter filter = new ServerTimingFilter();
+        ReflectionTestUtils.setField(filter, "enabled", enabled);
+        return filter;
+    }
+}
@@ -0,0 +1,149 @@
+package com.remitly.dao.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class ReplicaRoutingDataSourceTests {
+
+    private final DataSource primary = node("primary");
+    private final DataSource replica1 = node("replica1");
+    private final DataSource replica2 = node("replica2");
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private LazyConnectionDataSourceProxy dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofMinutes(1));
+        dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testReadOnlyConnections_alternateBetweenReplicas() throws SQLException {
+        assertEquals("replica1", nodeOf(true));
+        assertEquals("replica2", nodeOf(true));
+        assertEquals("replica1", nodeOf(true));
+    }
+
+    @Test
+    public void testWritableConnections_goToPrimary() throws SQLException {
+        assertEquals("primary", nodeOf(false));
+    }
+
+    @Test
+    public void testReadOnlyConnections_stayOnPrimaryAfterWrite() throws SQLException {
+        routingDataSource.markWrite();
+
+        assertEquals("primary", nodeOf(true));
+        assertEquals("primary", nodeOf(true));
+    }
+
+    @Test
+    public void testZeroWindow_keepsReadsOnReplicas() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), Duration.ZERO);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+        routingDataSource.markWrite();
+
+        assertEquals("replica1", nodeOf(true));
+    }
+
+    @Test
+    public void testClientWrite_pinsOnlyThatClientToPrimary() throws SQLException {
+        MockHttpServletResponse writeResponse = inRequest(new MockHttpServletRequest());
+        routingDataSource.markClientWrite();
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesCookie.NAME);
+        assertNotNull(cookie);
+
+        MockHttpServletRequest sameClient = new MockHttpServletRequest();
+        sameClient.setCookies(cookie);
+        inRequest(sameClient);
+        assertEquals("primary", nodeOf(true));
+
+        inRequest(new MockHttpServletRequest());
+        assertEquals("replica1", nodeOf(true));
+    }
+
+    @Test
+    public void testClientWrite_outsideRequestPinsInstance() throws SQLException {
+        routingDataSource.markClientWrite();
+
+        inRequest(new MockHttpServletRequest());
+        assertEquals("primary", nodeOf(true));
+    }
+
+    @Test
+    public void testExpiredCookie_readsFromReplica() throws SQLException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesCookie.NAME, Long.toString(System.currentTimeMillis() - 1)));
+        inRequest(request);
+
+        assertEquals("replica1", nodeOf(true));
+    }
+
+    @Test
+    public void testClientWrite_pinsVersionedReadsOfEveryClientToPrimary() throws SQLException {
+        inRequest(new MockHttpServletRequest());
+        routingDataSource.markClientWrite();
+
+        inRequest(new MockHttpServletRequest());
+        assertEquals("primary", VersionedReads.call(() -> nodeOf(true)));
+        assertEquals("replica1", nodeOf(true));
+    }
+
+    @Test
+    public void testVersionedReads_useReplicasWithoutRecentWrite() throws SQLException {
+        assertEquals("replica1", VersionedReads.call(() -> nodeOf(true)));
+    }
+
+    private static MockHttpServletResponse inRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private String nodeOf(boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private static DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node(name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,57 @@
+package com.remitly.dao.model.swift_code;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BicTests {
+
+    @Test
+    public void testParse_roundTripsAndDerivesHeadquarter() {
+        Bic branch = Bic.parse("BREXPLPWWA1");
+        Bic headquarter = Bic.parse("BREXPLPWXXX");
+
+        assertEquals("BREXPLPWWA1", branch.toString());
+        assertEquals("BREXPLPW", Bic.parse("BREXPLPW").toString());
+        assertFalse(branch.isHeadquarter());
+        assertTrue(headquarter.isHeadquarter());
+        assertEquals(headquarter, branch.headquarterCode());
+        assertSame(headquarter, headquarter.headquarterCode());
+        assertEquals(headquarter.institutionPrefix(), branch.institutionPrefix());
+        assertEquals(branch.institutionPrefix(), Bic.institutionPrefix("BREXPLPWWA1"));
+        assertEquals("BREXPLPWXXX", Bic.headquarterCode("BREXPLPW"));
+        assertEquals("BREXPLPWXXX", Bic.headquarterCode("BREXPLPWWA1"));
+        String headquarterCode = "BREXPLPWXXX";
+        assertSame(headquarterCode, Bic.headquarterCode(headquarterCode));
+    }
+
+    @Test
+    public void testIsValid() {
+        assertTrue(Bic.isValid("BREXPLPWXXX"));
+        assertTrue(Bic.isValid("1234PLPW"));
+        assertFalse(Bic.isValid("--------XXX"));
+        assertFalse(Bic.isValid("brexplpw"));
+        assertFalse(Bic.isValid("BREXPLPWxxx"));
+        assertFalse(Bic.isValid(null));
+        assertFalse(Bic.isValid("TOO-SHORT"));
+        assertFalse(Bic.isValid("ABCD EFGXXX"));
+        assertFalse(Bic.isValid("ABCDEFGĄXXX"));
+        assertEquals(0, Bic.institutionPrefix("ABCDEF"));
+        assertThrows(IllegalArgumentException.class, () -> Bic.parse("ABCDEF"));
+    }
+
+    @Test
+    public void testCompareTo_matchesStringOrder() {
+        List<String> codes = List.of("ABCDEFGHXXX", "ABCDEFGH", "ABCDEFGH001", "ZBCDEFGH001", "0BCDEFGH001", "9BCDEFGH001");
+        List<String> sorted = new ArrayList<>(codes);
+        sorted.sort(null);
+
+        assertEquals(sorted, codes.stream().map(Bic::parse).sorted().map(Bic::toString).toList());
+        assertEquals(Bic.parse("ABCDEFGH001"), Bic.parse(new StringBuilder("ABCDEFGH001")));
+        assertEquals(1, Stream.of("ABCDEFGH001", "ABCDEFGH001").map(Bic::parse).distinct().count());
+    }
+}
@@ -0,0 +1,42 @@
+package com.remitly.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+public class MetricsIntegrationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void testPrometheusEndpoint_exposesRequestRepositoryPoolAndErrorMetrics() {
+        String baseUrl = "http://localhost:" + port;
+        restTemplate.getForEntity(baseUrl + "/v1/swift-codes/NOTEXISTXXX", String.class);
+        restTemplate.getForEntity(baseUrl + "/v1/swift-codes/country/PL?limit=1", String.class);
+
+        var response = restTemplate.getForEntity(baseUrl + "/actuator/prometheus", String.class);
+
+        assertEquals(200, response.getStatusCode().value());
+        String body = response.getBody();
+        assertTrue(body.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(body.contains("uri=\"/v1/swift-codes/{swift-code}\""));
+        assertTrue(body.contains("spring_data_repository_invocations_seconds_count{"));
+        assertTrue(body.contains("swift_codes_errors_total{"));
+        assertTrue(body.contains("outcome=\"not_found\""));
+        assertTrue(body.contains("swift_codes_mapping_seconds_count{"));
+        assertTrue(body.contains("hikaricp_connections_active"));
+        assertTrue(body.contains("jvm_gc_pause_seconds") || body.contains("jvm_memory_used_bytes"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.remitly.integration;
+
+import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.swift_code.SwiftCodeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the application on two H2 databases, a primary and a replica that the primary never
+ * replicates to, so every row shows which of them a query was routed to.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "swift-codes.datasource.read-your-writes-window=0s"
+})
+public class ReadReplicaIntegrationTests {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    static final String INSERT_SQL = "INSERT INTO swift_codes (id, address, bank_name, countryiso2, country_name,"
+            + " is_deleted, is_headquarter, swift_code) VALUES (RANDOM_UUID(), 'address', 'bank', 'DE', 'GERMANY', false, true, ?)";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private SwiftCodeService swiftCodeService;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        createReplicaSchema(replica);
+        registry.add("swift-codes.datasource.replica-urls", () -> REPLICA_URL);
+    }
+
+    /**
+     * The application reads from the replica while starting, so its schema has to exist first.
+     */
+    static void createReplicaSchema(JdbcTemplate replica) {
+        replica.execute("CREATE TABLE IF NOT EXISTS swift_codes (id uuid NOT NULL PRIMARY KEY,"
+                + " address varchar(255) NOT NULL, bank_name varchar(255) NOT NULL, countryiso2 varchar(255) NOT NULL,"
+                + " country_name varchar(255) NOT NULL, is_deleted boolean NOT NULL, is_headquarter boolean NOT NULL,"
+                + " swift_code varchar(255) NOT NULL UNIQUE, country_id bigint, headquarter_id uuid, content_hash bigint)");
+        replica.execute("CREATE TABLE IF NOT EXISTS countries (id bigint NOT NULL PRIMARY KEY,"
+                + " countryiso2code varchar(255) NOT NULL, country_name varchar(255) NOT NULL)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM swift_codes");
+        replica.update("DELETE FROM swift_codes");
+    }
+
+    @Test
+    public void testReadOnlyServiceMethod_readsFromReplica() {
+        replica.update(INSERT_SQL, "TESTDEBBXXX");
+
+        var page = swiftCodeService.getSwiftCodesPageByCountryISO2code("DE", 10, null);
+
+        assertEquals(1, page.getSwiftCodes().size());
+        assertEquals("TESTDEBBXXX", page.getSwiftCodes().getFirst().getSwiftCode());
+    }
+
+    @Test
+    public void testRepositoryQueryOutsideTransaction_readsFromReplica() {
+        replica.update(INSERT_SQL, "TESTDEBBXXX");
+
+        assertEquals(1, swiftCodeRepository.findLiveViewsByCountryISO2("DE").size());
+    }
+
+    @Test
+    public void testCreateSwiftCode_readsAndWritesPrimary() {
+        // present only on the replica: the existence check must not see it
+        replica.update(INSERT_SQL, "TESTDEBBXXX");
+
+        swiftCodeService.createSwiftCode(SwiftCodeDTO.builder()
+                .address("address")
+                .bankName("bank")
+                .countryISO2("DE")
+                .countryName("GERMANY")
+                .isHeadquarter(true)
+                .swiftCode("TESTDEBBXXX")
+                .build());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM swift_codes WHERE swift_code = 'TESTDEBBXXX'", Integer.class));
+        assertEquals(1, replica.queryForObject("SELECT COUNT(*) FROM swift_codes", Integer.class));
+    }
+}
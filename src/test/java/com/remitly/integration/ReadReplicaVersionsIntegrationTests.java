@@ -0,0 +1,91 @@
+package com.remitly.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Same two H2 databases as {@link ReadReplicaIntegrationTests}, with a read-your-writes window
+ * long enough to cover the test: the replica never receives the created code, so a response
+ * listing it was read from the primary.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:versions-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "swift-codes.datasource.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc
+public class ReadReplicaVersionsIntegrationTests {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:versions-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        ReadReplicaIntegrationTests.createReplicaSchema(replica);
+        registry.add("swift-codes.datasource.replica-urls", () -> REPLICA_URL);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM swift_codes");
+        replica.update("DELETE FROM swift_codes");
+    }
+
+    @Test
+    public void testOtherClient_neverGetsReplicaDataWithTagOfNewerWrite() throws Exception {
+        // replicated before the test
+        jdbcTemplate.update(ReadReplicaIntegrationTests.INSERT_SQL, "TESTDEBBXXX");
+        replica.update(ReadReplicaIntegrationTests.INSERT_SQL, "TESTDEBBXXX");
+        String before = mockMvc.perform(get("/v1/swift-codes/country/DE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"address": "address", "bankName": "bank", "countryISO2": "DE",
+                                 "countryName": "GERMANY", "isHeadquarter": true, "swiftCode": "TESTDEAAXXX"}"""))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists("swift-codes-primary-until"));
+
+        // no cookie: a client other than the writer, filling the evicted country cache
+        String after = mockMvc.perform(get("/v1/swift-codes/country/DE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+        mockMvc.perform(get("/v1/swift-codes/country/DE"))
+                .andExpect(header().string(HttpHeaders.ETAG, after))
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2));
+        mockMvc.perform(get("/v1/swift-codes/country/DE").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2));
+    }
+}
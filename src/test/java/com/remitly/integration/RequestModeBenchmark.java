@@ -0,0 +1,136 @@
+package com.remitly.integration;
+
+import com.remitly.RemitlyTestTaskApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the same endpoint with {@code benchmark.clients} concurrent closed-loop clients against
+ * the app started on platform threads and on virtual threads, and prints throughput and latency
+ * percentiles of both. Both runs get the pool and Tomcat limits of the {@code virtual-threads}
+ * profile, so only {@code spring.threads.virtual.enabled} differs. The default path runs a keyset
+ * query per request, so every request blocks on JDBC. Needs the database from
+ * {@code application.yml}; excluded from {@code test}, run with
+ * {@code ./gradlew requestModeBenchmark [-Dbenchmark.clients=N -Dbenchmark.seconds=N -Dbenchmark.path=/v1/...]}.
+ */
+@Tag("load")
+public class RequestModeBenchmark {
+
+    private static final String[] SHARED_PROPERTIES = {
+            "server.port=0",
+            "spring.datasource.hikari.maximum-pool-size=20",
+            "spring.datasource.hikari.minimum-idle=20",
+            "spring.datasource.hikari.connection-timeout=30000",
+            "server.tomcat.max-connections=10000",
+            "server.tomcat.accept-count=1000"
+    };
+
+    @Test
+    public void comparePlatformAndVirtualThreads() throws Exception {
+        int clients = Integer.getInteger("benchmark.clients", 1000);
+        int seconds = Integer.getInteger("benchmark.seconds", 30);
+        String path = System.getProperty("benchmark.path", "/v1/swift-codes/country/PL?limit=20");
+
+        List<String> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(String.format("%-16s %s", virtualThreads ? "virtual threads" : "platform threads",
+                    run(virtualThreads, clients, seconds, path)));
+        }
+
+        System.out.printf("%d clients, %d s, GET %s%n", clients, seconds, path);
+        results.forEach(System.out::println);
+    }
+
+    private static String run(boolean virtualThreads, int clients, int seconds, String path) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RemitlyTestTaskApplication.class)
+                .properties(SHARED_PROPERTIES)
+                .properties("spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + path);
+
+            load(uri, clients, Duration.ofSeconds(Math.max(5, seconds / 3)));
+            Result result = load(uri, clients, Duration.ofSeconds(seconds));
+            assertTrue(result.requests() > 0, "No successful request with virtual threads " + virtualThreads);
+            return result.describe(seconds);
+        }
+    }
+
+    private static Result load(URI uri, int clients, Duration duration) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        LongAdder errors = new LongAdder();
+
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        List<long[]> perClient = new ArrayList<>(clients);
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.sum());
+    }
+
+    private record Result(long[] sortedLatencies, long errors) {
+
+        long requests() {
+            return sortedLatencies.length;
+        }
+
+        String describe(int seconds) {
+            return String.format("%8.0f req/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms  errors %d",
+                    requests() / (double) seconds, percentile(0.50), percentile(0.99),
+                    sortedLatencies[sortedLatencies.length - 1] / 1_000_000.0, errors);
+        }
+
+        private double percentile(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.remitly.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.*;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the number of SQL statements issued per endpoint, so lazy loading or eager
+ * associations cannot silently bring back N+1 queries.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@Sql(statements = "INSERT INTO swift_codes(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted)" +
+        " VALUES ('92fc1126-f6f1-4696-bd12-549292972c1a', 'address', 'bank', 'PL', 'POLAND', true, 'TESTPLPWXXX', false)"
+        , executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(statements = "INSERT INTO swift_codes(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted, headquarter_id)" +
+        " VALUES ('71a8b3c5-bc72-40ab-b5fc-230b7fe07239', 'address', 'bank', 'PL', 'POLAND', false, 'TESTPLPW123', false, '92fc1126-f6f1-4696-bd12-549292972c1a')"
+        , executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(statements = "DELETE FROM swift_codes WHERE swift_code IN ('TESTPLPW123', 'TESTPLPW001')"
+        , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(statements = "DELETE FROM swift_codes WHERE swift_code='TESTPLPWXXX'"
+        , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class SqlStatementCountIntegrationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        eventPublisher.publishEvent(new SwiftCodesReloadedEvent());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private String createURLWithPort() {
+        return "http://localhost:" + port + "/v1/swift-codes";
+    }
+
+    @Test
+    public void testGetSwiftCode_servedWithoutQueries() {
+        var response = restTemplate.getForEntity(createURLWithPort() + "/TESTPLPWXXX", SwiftCodeDTO.class);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(1, response.getBody().getBranches().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetAllSwiftCodesByCountryISO2code_singleQuery() {
+        var response = restTemplate.getForEntity(createURLWithPort() + "/country/PL", String.class);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        restTemplate.getForEntity(createURLWithPort() + "/country/PL", String.class);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testDeleteSwiftCode_loadsBranchWithHeadquarterInOneQuery() {
+        var response = restTemplate.exchange(
+                createURLWithPort() + "/TESTPLPW123", HttpMethod.DELETE, null, String.class);
+
+        assertEquals(200, response.getStatusCode().value());
+        // one select joining the headquarter, one update
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testCreateSwiftCode_headquarterLookupIsSingleQuery() throws Exception {
+        SwiftCodeDTO requestBody = SwiftCodeDTO.builder()
+                .address("address")
+                .bankName("bank")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(false)
+                .swiftCode("TESTPLPW001")
+                .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        var response = restTemplate.exchange(createURLWithPort(), HttpMethod.POST,
+                new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers), String.class);
+
+        assertEquals(201, response.getStatusCode().value());
+        // one state lookup for the code and its headquarter, and the insert; the headquarter is not loaded
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
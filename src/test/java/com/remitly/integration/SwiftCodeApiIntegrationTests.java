@@ -10,12 +10,15 @@ import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
 import com.remitly.dao.model.swift_code.SwiftCode;
 import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
 import com.remitly.service.swift_code.SwiftCodeService;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.test.context.jdbc.Sql;
@@ -42,6 +45,9 @@ public class SwiftCodeApiIntegrationTests {
     @Autowired
     private SwiftCodeService swiftCodeService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private static HttpHeaders headers;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -52,6 +58,12 @@ public class SwiftCodeApiIntegrationTests {
         headers.setContentType(MediaType.APPLICATION_JSON);
     }
 
+    @BeforeEach
+    public void reloadReadModels() {
+        // rows inserted/deleted by @Sql bypass SwiftCodeService, so in-memory read models are rebuilt explicitly
+        eventPublisher.publishEvent(new SwiftCodesReloadedEvent());
+    }
+
     private String createURLWithPort() {
         return "http://localhost:" + port + "/v1/swift-codes";
     }
@@ -178,7 +190,7 @@ public class SwiftCodeApiIntegrationTests {
     }
 
     @Test
-    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='-----------'"
+    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='TESTPLPW123'"
             , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     public void testCreateSwiftCode() throws JsonProcessingException {
         SwiftCodeDTO requestBody = SwiftCodeDTO.builder()
@@ -187,7 +199,7 @@ public class SwiftCodeApiIntegrationTests {
                 .countryISO2("PL")
                 .countryName("POLAND")
                 .isHeadquarter(false)
-                .swiftCode("-----------")
+                .swiftCode("TESTPLPW123")
                 .build();
 
         HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
@@ -204,6 +216,38 @@ public class SwiftCodeApiIntegrationTests {
         assertEquals("Swift code " + requestBody.getSwiftCode() + " created!", result.getMessage());
     }
 
+    @Test
+    @Sql(statements = "INSERT INTO swift_codes(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted)" +
+            " VALUES ('4c0f3f3e-5a3b-4f0e-9d59-1f6c2a7b8e11', 'old address', 'bank', 'PL', 'POLAND', false, 'TESTPLPW124', true)"
+            , executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='TESTPLPW124'"
+            , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void testCreateSwiftCode_revivesSoftDeletedCode() throws JsonProcessingException {
+        SwiftCodeDTO requestBody = SwiftCodeDTO.builder()
+                .address("address")
+                .bankName("bank")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(false)
+                .swiftCode("TESTPLPW124")
+                .build();
+
+        HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
+
+        var response = restTemplate.exchange(
+                createURLWithPort(),
+                HttpMethod.POST,
+                entity,
+                ResponseMessageDTO.class);
+
+        assertEquals(201, response.getStatusCode().value());
+        assertEquals("Swift code TESTPLPW124 created!", Objects.requireNonNull(response.getBody()).getMessage());
+
+        var revived = restTemplate.getForEntity(createURLWithPort() + "/TESTPLPW124", SwiftCodeDTO.class);
+        assertEquals(200, revived.getStatusCode().value());
+        assertEquals("address", Objects.requireNonNull(revived.getBody()).getAddress());
+    }
+
     @Test
     @Sql(statements = "INSERT INTO swift_codes(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted)" +
             " VALUES ('92fc1126-f6f1-4696-bd12-549292972c1a', 'address', 'bank', 'PL', 'POLAND', false, '-----------', false)"
@@ -238,7 +282,7 @@ public class SwiftCodeApiIntegrationTests {
     }
 
     @Test
-    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='-----------'"
+    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='TESTPLPW123'"
             , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     public void testCreateSwiftCode_returnErrorResponseOnBadRequest() throws JsonProcessingException {
         SwiftCodeDTO requestBody = SwiftCodeDTO.builder()
@@ -247,7 +291,7 @@ public class SwiftCodeApiIntegrationTests {
                 .countryISO2("PL")
                 .countryName("POLAND")
                 .isHeadquarter(true)
-                .swiftCode("-----------")
+                .swiftCode("TESTPLPW123")
                 .build();
 
         HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
@@ -262,13 +306,13 @@ public class SwiftCodeApiIntegrationTests {
 
         assertEquals(400, response.getStatusCode().value());
         assertNotNull(result);
-        assertEquals("Invalid format for headquarter provided, should end with XXX, actual: -----------", result.getMessage());
+        assertEquals("Invalid format for headquarter provided, should end with XXX, actual: TESTPLPW123", result.getMessage());
         assertEquals(400, result.getStatus());
         assertEquals("Bad Request", result.getError());
     }
 
     @Test
-    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='--------XXX'",
+    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='TESTPLPWXXX'",
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     public void testCreateSwiftCode_invalidCountryCombination_returnsBadRequest() throws JsonProcessingException {
         SwiftCodeDTO requestBody = SwiftCodeDTO.builder()
@@ -277,7 +321,7 @@ public class SwiftCodeApiIntegrationTests {
                 .countryISO2("PL")
                 .countryName("England")
                 .isHeadquarter(true)
-                .swiftCode("--------XXX")
+                .swiftCode("TESTPLPWXXX")
                 .build();
 
         HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
@@ -328,8 +372,24 @@ public class SwiftCodeApiIntegrationTests {
         assertEquals("Not Found", result.getError());
     }
 
+    @Test
+    @Sql(statements = "INSERT INTO swift_codes(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted)" +
+            " VALUES ('92fc1126-f6f1-4696-bd12-549292972c1a', 'address', 'bank', 'PL', 'POLAND', false, '-----------', false)"
+            , executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(statements = "DELETE FROM swift_codes WHERE swift_code='-----------'"
+            , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void testExportSwiftCodes_asNdjson() throws JsonProcessingException {
+        HttpHeaders ndjsonHeaders = new HttpHeaders();
+        ndjsonHeaders.setAccept(List.of(MediaType.APPLICATION_NDJSON));
 
+        var response = restTemplate.exchange(
+                createURLWithPort() + "/export", HttpMethod.GET, new HttpEntity<>(null, ndjsonHeaders), String.class);
 
-
-
+        assertEquals(200, response.getStatusCode().value());
+        assertNotNull(response.getBody());
+        List<String> lines = response.getBody().lines().toList();
+        assertEquals(swiftCodeRepository.findAll().stream().filter(code -> !code.isDeleted()).count(), lines.size());
+        assertEquals(1, lines.stream().filter(line -> line.contains("\"swiftCode\":\"-----------\"")).count());
+        assertNotNull(objectMapper.readTree(lines.getFirst()).get("swiftCode"));
+    }
 }
@@ -0,0 +1,86 @@
+package com.remitly.integration;
+
+import com.remitly.controller.swift_code.dto.SwiftCodeSearchResultDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Requires the PostgreSQL database with db/init/init_search.sql applied.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(statements = "INSERT INTO swift_codes(id, address, bank_name, countryiso2, country_name, is_headquarter, swift_code, is_deleted)" +
+        " VALUES ('92fc1126-f6f1-4696-bd12-549292972c1a', 'QWERTYSTRASSE 7 BERLIN', 'ZYXWVU PRIVATBANK', 'DE', 'GERMANY', true, 'TESTDEBBXXX', false)"
+        , executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(statements = "DELETE FROM swift_codes WHERE swift_code='TESTDEBBXXX'"
+        , executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class SwiftCodeTextSearchIntegrationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String createURLWithPort() {
+        return "http://localhost:" + port + "/v1/swift-codes/search/text";
+    }
+
+    @Test
+    public void testSearchFullText() {
+        var response = restTemplate.getForEntity(
+                createURLWithPort() + "?query=zyxwvu qwertystrasse", SwiftCodeSearchResultDTO[].class);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNotNull(response.getBody());
+        assertEquals("TESTDEBBXXX", response.getBody()[0].getSwiftCode());
+        assertTrue(response.getBody()[0].getScore() > 0);
+    }
+
+    @Test
+    public void testSearchBankNameSimilarity() {
+        var response = restTemplate.getForEntity(
+                createURLWithPort() + "?query=zyxwvu privatbnk&mode=SIMILARITY", SwiftCodeSearchResultDTO[].class);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNotNull(response.getBody());
+        assertEquals("TESTDEBBXXX", response.getBody()[0].getSwiftCode());
+    }
+
+    @Test
+    public void testSearchQueries_canBeServedByGinIndexes() {
+        // the seed table is small enough for the planner to prefer a sequential scan, so it is
+        // disabled here to prove the indexes match the predicates; see db/benchmark for real sizes
+        List<String> plans = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            String fullText = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT s.swift_code FROM swift_codes s " +
+                            "WHERE s.search_vector @@ websearch_to_tsquery('simple', 'zyxwvu') AND s.is_deleted = false",
+                    String.class));
+            String similarity = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT s.swift_code FROM swift_codes s " +
+                            "WHERE s.bank_name % 'ZYXWVU PRIVATBNK' AND s.is_deleted = false",
+                    String.class));
+            return List.of(fullText, similarity);
+        });
+
+        assertNotNull(plans);
+        assertTrue(plans.get(0).contains("idx_swift_codes_search_vector"), plans.get(0));
+        assertTrue(plans.get(1).contains("idx_swift_codes_bank_name_trgm"), plans.get(1));
+    }
+}
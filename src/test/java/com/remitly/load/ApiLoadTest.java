@@ -0,0 +1,276 @@
+package com.remitly.load;
+
+import com.remitly.RemitlyTestTaskApplication;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Open-loop load test of the REST API: boots the app against an in-memory H2 database seeded with
+ * the rows of {@code db/init/init.sql} ({@code load.database=h2}, the default) or against the
+ * Postgres from {@code application.yml}, already seeded by the container ({@code load.database=postgres}),
+ * and issues a weighted mix of requests at a fixed rate. Latency is measured from the time a
+ * request was scheduled, so a stalled server shows up in the percentiles instead of lowering
+ * the offered load. Excluded from {@code test}, run with {@code ./gradlew loadTest}:
+ * <ul>
+ *     <li>{@code load.rate} requests per second, default 500</li>
+ *     <li>{@code load.seconds} measured duration, default 60, after {@code load.warmupSeconds}, default 10</li>
+ *     <li>{@code load.mix} weights, default {@code getByCode:70,getByCountry:20,post:5,delete:5}</li>
+ *     <li>{@code load.maxInFlight} cap on outstanding requests, default 2000</li>
+ * </ul>
+ */
+@Tag("load")
+public class ApiLoadTest {
+
+    private static final String BASE_PATH = "/v1/swift-codes";
+    private static final String SEED_FILE = "db/init/init.sql";
+    private static final String SEED_INSERT = "INSERT INTO public.swift_codes VALUES";
+    private static final String SEED_COLUMNS = "INSERT INTO swift_codes (id, address, bank_name, countryiso2, country_name,"
+            + " is_deleted, is_headquarter, swift_code, country_id, headquarter_id) VALUES";
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    enum Operation {
+        GET_BY_CODE("getByCode"),
+        GET_BY_COUNTRY("getByCountry"),
+        POST("post"),
+        DELETE("delete");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in load.mix: " + key));
+        }
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+    private final AtomicLong codeSequence = new AtomicLong(ThreadLocalRandom.current().nextLong(1L << 36));
+
+    private List<String> swiftCodes;
+    private List<String> countries;
+    private String baseUrl;
+
+    @Test
+    public void runLoad() throws Exception {
+        int rate = Integer.getInteger("load.rate", 500);
+        int seconds = Integer.getInteger("load.seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 10);
+        int maxInFlight = Integer.getInteger("load.maxInFlight", 2000);
+        String database = System.getProperty("load.database", "h2");
+        Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", "getByCode:70,getByCountry:20,post:5,delete:5"));
+
+        try (ConfigurableApplicationContext context = start(database)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            if (database.equals("h2")) {
+                seed(jdbcTemplate, Path.of(System.getProperty("load.seed", SEED_FILE)));
+                context.publishEvent(new SwiftCodesReloadedEvent());
+            }
+            swiftCodes = jdbcTemplate.queryForList("SELECT swift_code FROM swift_codes WHERE is_deleted = false", String.class);
+            countries = jdbcTemplate.queryForList("SELECT DISTINCT countryiso2 FROM swift_codes WHERE is_deleted = false", String.class);
+            assertFalse(swiftCodes.isEmpty(), "No swift codes to load test against, seed the database first");
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort() + BASE_PATH;
+
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(MAX_LATENCY, 3));
+                errors.put(operation, new LongAdder());
+            }
+
+            drive(mix, rate, Duration.ofSeconds(warmupSeconds), maxInFlight);
+            latencies.values().forEach(Histogram::reset);
+            errors.values().forEach(LongAdder::reset);
+            drive(mix, rate, Duration.ofSeconds(seconds), maxInFlight);
+
+            report(database, rate, seconds, mix);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String database) {
+        List<String> properties = new ArrayList<>(List.of("server.port=0"));
+        if (database.equals("h2")) {
+            properties.addAll(List.of(
+                    "spring.datasource.url=jdbc:h2:mem:load;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.driver-class-name=org.h2.Driver",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.password=",
+                    "spring.jpa.hibernate.ddl-auto=create",
+                    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+            ));
+        } else if (!database.equals("postgres")) {
+            throw new IllegalArgumentException("load.database should be h2 or postgres, actual: " + database);
+        }
+        return new SpringApplicationBuilder(RemitlyTestTaskApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * Loads the data rows of the Postgres dump; branches precede their headquarters in it, so
+     * foreign keys are only checked again once every row is in.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate, Path file) throws Exception {
+        List<String> inserts = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .filter(line -> line.startsWith(SEED_INSERT))
+                .map(line -> SEED_COLUMNS + line.substring(SEED_INSERT.length(), line.length() - 1))
+                .toList();
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.batchUpdate(inserts.toArray(String[]::new));
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    private void drive(Map<Operation, Integer> mix, int rate, Duration duration, int maxInFlight) throws InterruptedException {
+        Operation[] schedule = weightedSchedule(mix);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long requests = duration.toNanos() / interval;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long scheduled = start + i * interval;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        execute(operation, scheduled);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void execute(Operation operation, long scheduled) {
+        String code = switch (operation) {
+            case POST -> nextSwiftCode();
+            case DELETE -> created.poll();
+            default -> null;
+        };
+        if (operation == Operation.DELETE && code == null) {
+            return;
+        }
+        try {
+            HttpResponse<Void> response = httpClient.send(request(operation, code), HttpResponse.BodyHandlers.discarding());
+            latencies.get(operation).recordValue(Math.min(System.nanoTime() - scheduled, MAX_LATENCY));
+            if (response.statusCode() >= 400) {
+                errors.get(operation).increment();
+            } else if (operation == Operation.POST) {
+                created.add(code);
+            }
+        } catch (Exception e) {
+            errors.get(operation).increment();
+        }
+    }
+
+    private HttpRequest request(Operation operation, String code) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case GET_BY_CODE -> get(baseUrl + "/" + swiftCodes.get(random.nextInt(swiftCodes.size())));
+            case GET_BY_COUNTRY -> get(baseUrl + "/country/" + countries.get(random.nextInt(countries.size())));
+            case POST -> HttpRequest.newBuilder(URI.create(baseUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"address\":\"LOAD TEST\",\"bankName\":\"LOAD TEST BANK\","
+                            + "\"countryISO2\":\"PL\",\"countryName\":\"POLAND\",\"isHeadquarter\":false,"
+                            + "\"swiftCode\":\"" + code + "\"}"))
+                    .build();
+            case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + code)).DELETE().build();
+        };
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    /**
+     * Codes that cannot collide with the dataset or earlier runs: a random start in a space of
+     * 36^7, spread over the bank, location and branch part of a Polish branch code.
+     */
+    private String nextSwiftCode() {
+        long value = codeSequence.getAndIncrement();
+        char[] digits = new char[7];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = DIGITS[(int) (value % DIGITS.length)];
+            value /= DIGITS.length;
+        }
+        String encoded = new String(digits);
+        return "L" + encoded.substring(0, 3) + "PL" + encoded.substring(3, 7) + "1";
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> schedule.addAll(Collections.nCopies(weight, operation)));
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.of(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private void report(String database, int rate, int seconds, Map<Operation, Integer> mix) {
+        System.out.printf("%s, %d req/s offered for %d s, mix %s%n", database, rate, seconds, mix);
+        System.out.printf("%-14s %10s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        for (Operation operation : mix.keySet()) {
+            Histogram histogram = latencies.get(operation);
+            System.out.printf("%-14s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    operation.key,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / (double) seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errors.get(operation).sum());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
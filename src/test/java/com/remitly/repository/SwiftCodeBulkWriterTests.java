@@ -0,0 +1,90 @@
+package com.remitly.repository;
+
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(SwiftCodeBulkWriter.class)
+public class SwiftCodeBulkWriterTests {
+
+    @Autowired
+    private SwiftCodeBulkWriter swiftCodeBulkWriter;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void destroy() {
+        swiftCodeRepository.deleteAll();
+    }
+
+    @Test
+    public void testWrite_insertsHeadquarterAndLinkedBranchOnce() {
+        UUID headquarterId = UUID.randomUUID();
+        SwiftCode headquarter = SwiftCode.builder()
+                .id(headquarterId)
+                .address("address")
+                .swiftCode("ABCDEFGHXXX")
+                .bankName("BANK")
+                .isHeadquarter(true)
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .build();
+        SwiftCode branch = SwiftCode.builder()
+                .id(UUID.randomUUID())
+                .address("address")
+                .swiftCode("ABCDEFGH001")
+                .bankName("BANK")
+                .isHeadquarter(false)
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .headquarterId(SwiftCode.builder().id(headquarterId).build())
+                .build();
+
+        swiftCodeBulkWriter.write(List.of(headquarter, branch));
+
+        assertThat(swiftCodeRepository.count()).isEqualTo(2L);
+        SwiftCode result = swiftCodeRepository.findBySwiftCode("ABCDEFGH001").orElseThrow();
+        assertThat(result.getHeadquarterId().getId()).isEqualTo(headquarterId);
+    }
+
+    @Test
+    public void testBackfillContentHashes_storesHashOfRowsWithoutOne() {
+        jdbcTemplate.update("INSERT INTO swift_codes (id, address, bank_name, countryiso2, country_name, is_deleted,"
+                + " is_headquarter, swift_code) VALUES (?, 'address', 'BANK', 'PL', 'POLAND', false, true, 'ABCDEFGHXXX')",
+                UUID.randomUUID());
+        SwiftCode expected = SwiftCode.builder()
+                .address("address")
+                .bankName("BANK")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(true)
+                .build();
+
+        assertThat(swiftCodeBulkWriter.backfillContentHashes()).isEqualTo(1);
+        assertThat(swiftCodeBulkWriter.backfillContentHashes()).isEqualTo(0);
+        assertThat(jdbcTemplate.queryForObject("SELECT content_hash FROM swift_codes WHERE swift_code = 'ABCDEFGHXXX'", Long.class))
+                .isEqualTo(expected.computeContentHash());
+    }
+}
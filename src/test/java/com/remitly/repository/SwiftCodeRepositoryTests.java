@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.*;
@@ -119,6 +120,19 @@ public class SwiftCodeRepositoryTests {
         assertThat(result.size()).isEqualTo(2);
     }
 
+    @Test
+    public void testFindLiveViewsByCountryISO2After_pagesBySwiftCode() {
+        var firstPage = swiftCodeRepository.findLiveViewsByCountryISO2After("PL", "", Limit.of(1));
+        var secondPage = swiftCodeRepository.findLiveViewsByCountryISO2After(
+                "PL", firstPage.getFirst().swiftCode(), Limit.of(1));
+        var lastPage = swiftCodeRepository.findLiveViewsByCountryISO2After("PL", "ABCDEFGHXXX", Limit.of(1));
+
+        assertThat(firstPage.size()).isEqualTo(1);
+        assertThat(firstPage.getFirst().swiftCode()).isEqualTo("ABCDEFGHIJK");
+        assertThat(secondPage.getFirst().swiftCode()).isEqualTo("ABCDEFGHXXX");
+        assertThat(lastPage.isEmpty()).isTrue();
+    }
+
     @Test
     public void testFindBySwiftCodeAndIsDeletedFalse() {
         String code = "ABCDEFGHIJK";
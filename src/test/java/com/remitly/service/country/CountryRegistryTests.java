@@ -0,0 +1,47 @@
+package com.remitly.service.country;
+
+import com.remitly.dao.model.country.Country;
+import com.remitly.dao.repository.country.CountryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CountryRegistryTests {
+
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+
+    @Test
+    public void testMatches_localeNamesIgnoringCase() {
+        CountryRegistry registry = new CountryRegistry(countryRepository, "");
+
+        assertTrue(registry.matches("PL", "Poland"));
+        assertTrue(registry.matches("pl", "POLAND"));
+        assertFalse(registry.matches("PL", "England"));
+        assertFalse(registry.matches("QQ", "Poland"));
+        assertFalse(registry.matches("POL", "Poland"));
+        assertFalse(registry.matches("P1", "Poland"));
+        assertFalse(registry.matches(null, "Poland"));
+        assertFalse(registry.matches("PL", null));
+    }
+
+    @Test
+    public void testMatches_aliasesAndCountriesTable() {
+        Country country = new Country();
+        country.setCountryISO2code("XK");
+        country.setCountryName("REPUBLIC OF KOSOVO");
+        when(countryRepository.findAll()).thenReturn(List.of(country));
+
+        CountryRegistry registry = new CountryRegistry(countryRepository, "CZ=CZECH REPUBLIC; CZ=CZECHIA;broken");
+        registry.loadCountries();
+
+        assertTrue(registry.matches("CZ", "Czech Republic"));
+        assertTrue(registry.matches("CZ", "czechia"));
+        assertTrue(registry.matches("xk", "Republic of Kosovo"));
+        assertTrue(registry.isKnownCode("XK"));
+        assertFalse(registry.isKnownCode("QQ"));
+    }
+}
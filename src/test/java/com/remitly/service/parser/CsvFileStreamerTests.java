@@ -0,0 +1,80 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.model.swift_code.SwiftCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvFileStreamerTests {
+
+    private static final String EXCEL_FILE = "static/Interns_2025_SWIFT_CODES.xlsx";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testStream_matchesExcelStreamer() throws Exception {
+        Path excel = new ClassPathResource(EXCEL_FILE).getFile().toPath();
+        List<String> expected = new ArrayList<>();
+        StringBuilder csv = new StringBuilder("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n");
+        ExcelSheetStreamer.stream(excel, cells -> {
+            expected.add(describe(SwiftCodeMapper.map(cells)));
+            csv.append(toCsvLine(cells)).append("\r\n");
+        });
+        Path file = tempDir.resolve("codes.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+        List<String> actual = new ArrayList<>();
+        CsvFileStreamer.stream(file, ',', SwiftCodeMapper.IMPORTED_COLUMNS,
+                cells -> actual.add(describe(SwiftCodeMapper.map(cells))));
+
+        assertFalse(actual.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testStream_decodesOnlyRequestedColumns() throws Exception {
+        Path file = tempDir.resolve("codes.tsv");
+        Files.writeString(file, "header\n"
+                + "PL\tABCDEFGHXXX\tBIC11\t\"BANK \"\"ONE\"\"\"\tul. Prosta 1\tWARSAW\tPOLAND\tEurope/Warsaw\n"
+                + "\n"
+                + "DE\tZYXWVUTS001\tBIC11\tBANK\t\"Straße 1\tBerlin\"\tBERLIN\tGERMANY", StandardCharsets.UTF_8);
+
+        List<String[]> rows = new ArrayList<>();
+        CsvFileStreamer.stream(file, '\t', SwiftCodeMapper.IMPORTED_COLUMNS, rows::add);
+
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"PL", "ABCDEFGHXXX", "", "BANK \"ONE\"", "ul. Prosta 1", "", "POLAND", ""},
+                rows.get(0));
+        assertArrayEquals(new String[]{"DE", "ZYXWVUTS001", "", "BANK", "Straße 1\tBerlin", "", "GERMANY", ""},
+                rows.get(1));
+    }
+
+    static String toCsvLine(String[] cells) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) line.append(',');
+            line.append('"').append(cells[i].replace("\"", "\"\"")).append('"');
+        }
+        return line.toString();
+    }
+
+    private static String describe(SwiftCode swiftCode) {
+        return String.join("|",
+                swiftCode.getCountryISO2(),
+                swiftCode.getSwiftCode(),
+                swiftCode.getBankName(),
+                swiftCode.getAddress(),
+                swiftCode.getCountryName(),
+                String.valueOf(swiftCode.isHeadquarter()));
+    }
+}
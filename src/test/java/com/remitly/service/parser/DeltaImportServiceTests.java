@@ -0,0 +1,124 @@
+package com.remitly.service.parser;
+
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.country.CountryRegistry;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import({DeltaImportService.class, SwiftCodeBulkWriter.class, CountryRegistry.class})
+public class DeltaImportServiceTests {
+
+    @Autowired
+    private DeltaImportService deltaImportService;
+
+    @Autowired
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testImportDelta_appliesOnlyChangedRows() throws Exception {
+        swiftCodeRepository.saveAndFlush(swiftCode("ABCDEFGHXXX", "OLD ADDRESS", true));
+        swiftCodeRepository.saveAndFlush(swiftCode("ABCDEFGH001", "ADDRESS", false));
+        swiftCodeRepository.saveAndFlush(swiftCode("REMOVEDXXXX", "ADDRESS", true));
+        testEntityManager.clear();
+
+        Path file = writeSheet(List.of(
+                new String[]{"PL", "ABCDEFGHXXX", "BIC11", "BANK", "NEW ADDRESS", "WARSAW", "POLAND", "Europe/Warsaw"},
+                new String[]{"PL", "ABCDEFGH001", "BIC11", "BANK", "ADDRESS", "WARSAW", "POLAND", "Europe/Warsaw"},
+                new String[]{"PL", "ABCDEFGH002", "BIC11", "BANK", "ADDRESS", "WARSAW", "POLAND", "Europe/Warsaw"}
+        ));
+
+        DeltaImportSummary summary = deltaImportService.importDelta(file, new ImportProgress());
+        testEntityManager.clear();
+
+        assertThat(summary.inserted()).isEqualTo(1);
+        assertThat(summary.updated()).isEqualTo(1);
+        assertThat(summary.deleted()).isEqualTo(1);
+        assertThat(summary.unchanged()).isEqualTo(1);
+        assertThat(swiftCodeRepository.findBySwiftCode("ABCDEFGHXXX").orElseThrow().getAddress()).isEqualTo("NEW ADDRESS");
+        assertThat(swiftCodeRepository.findBySwiftCode("REMOVEDXXXX").orElseThrow().isDeleted()).isTrue();
+        assertThat(swiftCodeRepository.findBySwiftCode("ABCDEFGH002").orElseThrow().getHeadquarterId().getSwiftCode())
+                .isEqualTo("ABCDEFGHXXX");
+    }
+
+    @Test
+    public void testImportDelta_linksBranchesOnlyToLiveOrRevivedHeadquarters() throws Exception {
+        SwiftCode deleted = swiftCode("GONEPLPWXXX", "ADDRESS", true);
+        deleted.setDeleted(true);
+        swiftCodeRepository.saveAndFlush(deleted);
+        SwiftCode revived = swiftCode("BACKPLPWXXX", "ADDRESS", true);
+        revived.setDeleted(true);
+        swiftCodeRepository.saveAndFlush(revived);
+        testEntityManager.clear();
+
+        Path file = writeSheet(List.of(
+                new String[]{"PL", "GONEPLPW001", "BIC11", "BANK", "ADDRESS", "WARSAW", "POLAND", "Europe/Warsaw"},
+                new String[]{"PL", "BACKPLPW001", "BIC11", "BANK", "ADDRESS", "WARSAW", "POLAND", "Europe/Warsaw"},
+                new String[]{"PL", "BACKPLPWXXX", "BIC11", "BANK", "ADDRESS", "WARSAW", "POLAND", "Europe/Warsaw"}
+        ));
+
+        deltaImportService.importDelta(file, new ImportProgress());
+        testEntityManager.clear();
+
+        assertThat(swiftCodeRepository.findBySwiftCode("GONEPLPWXXX").orElseThrow().isDeleted()).isTrue();
+        assertThat(swiftCodeRepository.findBySwiftCode("GONEPLPW001").orElseThrow().getHeadquarterId()).isNull();
+        assertThat(swiftCodeRepository.findBySwiftCode("BACKPLPWXXX").orElseThrow().isDeleted()).isFalse();
+        assertThat(swiftCodeRepository.findBySwiftCode("BACKPLPW001").orElseThrow().getHeadquarterId().getSwiftCode())
+                .isEqualTo("BACKPLPWXXX");
+    }
+
+    private static SwiftCode swiftCode(String code, String address, boolean isHeadquarter) {
+        return SwiftCode.builder()
+                .swiftCode(code)
+                .address(address)
+                .bankName("BANK")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(isHeadquarter)
+                .build();
+    }
+
+    private Path writeSheet(List<String[]> rows) throws Exception {
+        Path file = tempDir.resolve("codes.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            List<String[]> allRows = new ArrayList<>();
+            allRows.add(new String[]{"COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE"});
+            allRows.addAll(rows);
+            for (int i = 0; i < allRows.size(); i++) {
+                Row row = sheet.createRow(i);
+                for (int column = 0; column < allRows.get(i).length; column++) {
+                    row.createCell(column).setCellValue(allRows.get(i)[column]);
+                }
+            }
+            workbook.write(outputStream);
+        }
+        return file;
+    }
+}
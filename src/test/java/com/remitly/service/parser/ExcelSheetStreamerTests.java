@@ -0,0 +1,52 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.model.swift_code.SwiftCode;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ExcelSheetStreamerTests {
+
+    private static final String EXCEL_FILE = "static/Interns_2025_SWIFT_CODES.xlsx";
+
+    @Test
+    public void testStream_matchesWorkbookParser() throws Exception {
+        List<String> expected = new ArrayList<>();
+        try (InputStream inputStream = new ClassPathResource(EXCEL_FILE).getInputStream();
+             XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Iterator<Row> rowIterator = sheet.iterator();
+            if (rowIterator.hasNext()) rowIterator.next();
+            rowIterator.forEachRemaining(row -> expected.add(describe(SwiftCodeMapper.map(row))));
+        }
+
+        List<String> actual = new ArrayList<>();
+        Path file = new ClassPathResource(EXCEL_FILE).getFile().toPath();
+        ExcelSheetStreamer.stream(file, cells -> actual.add(describe(SwiftCodeMapper.map(cells))));
+
+        assertFalse(actual.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    private static String describe(SwiftCode swiftCode) {
+        return String.join("|",
+                swiftCode.getCountryISO2(),
+                swiftCode.getSwiftCode(),
+                swiftCode.getBankName(),
+                swiftCode.getAddress(),
+                swiftCode.getCountryName(),
+                String.valueOf(swiftCode.isHeadquarter()));
+    }
+}
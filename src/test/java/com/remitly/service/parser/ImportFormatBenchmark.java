@@ -0,0 +1,95 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares reading the same generated dataset from xlsx and csv. Excluded from {@code test};
+ * run with {@code ./gradlew importBenchmark [-Dbenchmark.rows=N]}.
+ */
+@Tag("benchmark")
+public class ImportFormatBenchmark {
+
+    private static final String EXCEL_FILE = "static/Interns_2025_SWIFT_CODES.xlsx";
+    private static final int ITERATIONS = 5;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void compareExcelAndCsv() throws Exception {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+        List<String[]> template = new ArrayList<>();
+        ExcelSheetStreamer.stream(new ClassPathResource(EXCEL_FILE).getFile().toPath(), template::add);
+
+        Path xlsx = tempDir.resolve("codes.xlsx");
+        Path csv = tempDir.resolve("codes.csv");
+        writeDataset(template, rows, xlsx, csv);
+
+        System.out.printf("Dataset: %d rows, xlsx %d KB, csv %d KB%n",
+                rows, Files.size(xlsx) / 1024, Files.size(csv) / 1024);
+        measure("xlsx", rows, consumer -> ExcelSheetStreamer.stream(xlsx, consumer));
+        measure("csv ", rows, consumer -> CsvFileStreamer.stream(csv, ',', SwiftCodeMapper.IMPORTED_COLUMNS, consumer));
+    }
+
+    private static void measure(String format, int rows, Consumer<Consumer<String[]>> source) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            LongAdder count = new LongAdder();
+            long start = System.nanoTime();
+            source.accept(cells -> {
+                SwiftCodeMapper.map(cells);
+                count.increment();
+            });
+            long nanos = System.nanoTime() - start;
+
+            assertEquals(rows, count.sum());
+            System.out.printf("%s iteration %d: %d ms, %.0f rows/s%n", format, i + 1,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows / (nanos / 1_000_000_000.0));
+        }
+    }
+
+    private static void writeDataset(List<String[]> template, int rows, Path xlsx, Path csv) throws Exception {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+             BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("COUNTRY ISO2 CODE");
+            writer.write("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n");
+
+            for (int i = 0; i < rows; i++) {
+                String[] cells = template.get(i % template.size()).clone();
+                cells[1] = String.format("%08d", i) + cells[1].substring(8);
+
+                Row row = sheet.createRow(i + 1);
+                for (int column = 0; column < cells.length; column++) {
+                    row.createCell(column).setCellValue(cells[column]);
+                }
+                writer.write(CsvFileStreamerTests.toCsvLine(cells));
+                writer.write('\n');
+            }
+
+            try (OutputStream outputStream = Files.newOutputStream(xlsx)) {
+                workbook.write(outputStream);
+            }
+            workbook.dispose();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.remitly.service.parser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ImportJobServiceTests {
+
+    @TempDir
+    private Path uploadDir;
+
+    private ExcelParserService excelParserService;
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        excelParserService = mock(ExcelParserService.class);
+        importJobService = new ImportJobService(
+                excelParserService, mock(DeltaImportService.class), uploadDir, 1, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.shutdown();
+    }
+
+    @Test
+    void testSubmit_marksJobFailedWhenImportThrowsError() throws InterruptedException {
+        when(excelParserService.parseFileStreaming(any(), any())).thenThrow(new OutOfMemoryError("Java heap space"));
+        MockMultipartFile file = new MockMultipartFile("file", "codes.csv", "text/csv", new byte[0]);
+
+        ImportJob job = importJobService.submit(file, ImportMode.FULL);
+        for (int i = 0; i < 100 && !job.isFinished(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(ImportJobState.FAILED, job.getState());
+        assertEquals("OutOfMemoryError: Java heap space", job.getError());
+    }
+}
@@ -0,0 +1,134 @@
+package com.remitly.service.parser;
+
+import com.remitly.controller.swift_code.mapper.SwiftCodeMapper;
+import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ImportPipelineTests {
+
+    private static String[] row(String countryISO2, String swiftCode) {
+        return new String[]{countryISO2, swiftCode, "BIC11", "bank", "address", "town", "poland", "Europe/Warsaw"};
+    }
+
+    @Test
+    public void testRun_mapsEveryRowAndRejectsInvalidOnes() {
+        List<String[]> rows = List.of(
+                row("pl", "abcdefgh001"),
+                row("PL", "ABCDEFGHXXX"),
+                row("PL", "TOO-SHORT"),
+                row("PL", "ZYXWVUTSXXX")
+        );
+        ImportProgress progress = new ImportProgress();
+        List<SwiftCode> written = Collections.synchronizedList(new ArrayList<>());
+
+        new ImportPipeline(3, 2).run(
+                rowConsumer -> rows.forEach(rowConsumer),
+                cells -> SwiftCodeRowValidator.validate(SwiftCodeMapper.map(cells)),
+                written::add,
+                progress
+        );
+
+        assertEquals(4, progress.getRowsRead());
+        assertEquals(3, progress.getRowsMapped());
+        assertEquals(1, progress.getRowsRejected());
+        assertEquals(3, written.size());
+        assertTrue(written.stream().anyMatch(code -> code.getSwiftCode().equals("ABCDEFGH001")));
+    }
+
+    @Test
+    public void testRun_propagatesReaderFailure() {
+        ImportPipeline pipeline = new ImportPipeline(2, 2);
+
+        assertThrows(RuntimeException.class, () -> pipeline.run(
+                rowConsumer -> {
+                    throw new IllegalStateException("broken file");
+                },
+                cells -> SwiftCodeMapper.map(cells),
+                swiftCode -> {
+                },
+                new ImportProgress()
+        ));
+    }
+
+    @Test
+    public void testRun_propagatesMapperErrorInsteadOfHanging() {
+        ImportPipeline pipeline = new ImportPipeline(2, 2);
+        List<String[]> rows = List.of(row("PL", "ABCDEFGHXXX"), row("PL", "ABCDEFGH001"), row("PL", "ABCDEFGH002"));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(StackOverflowError.class, () -> pipeline.run(
+                rowConsumer -> rows.forEach(rowConsumer),
+                cells -> {
+                    throw new StackOverflowError();
+                },
+                swiftCode -> {
+                },
+                new ImportProgress()
+        )));
+    }
+
+    @Test
+    public void testLinkingWriter_writesHeadquarterBeforeItsBranches() {
+        SwiftCodeBulkWriter bulkWriter = mock(SwiftCodeBulkWriter.class);
+        List<SwiftCode> writes = new ArrayList<>();
+        doAnswer(invocation -> writes.addAll(invocation.getArgument(0)))
+                .when(bulkWriter).write(anyList());
+        ImportProgress progress = new ImportProgress();
+        HeadquarterLinkingWriter writer = new HeadquarterLinkingWriter(bulkWriter, 2, progress);
+
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGH001")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGH002")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGHXXX")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "NOHEADQ1001")));
+        writer.finish();
+
+        Map<String, SwiftCode> byCode = writes.stream()
+                .collect(Collectors.toMap(SwiftCode::getSwiftCode, Function.identity()));
+        assertEquals("ABCDEFGHXXX", writes.getFirst().getSwiftCode());
+        assertEquals(byCode.get("ABCDEFGHXXX").getId(), byCode.get("ABCDEFGH001").getHeadquarterId().getId());
+        assertEquals(byCode.get("ABCDEFGHXXX").getId(), byCode.get("ABCDEFGH002").getHeadquarterId().getId());
+        assertNull(byCode.get("NOHEADQ1001").getHeadquarterId());
+        assertEquals(4, progress.getRows());
+    }
+
+    @Test
+    public void testLinkingWriter_spillsPendingBranchesAndLinksThemAfterwards() {
+        SwiftCodeBulkWriter bulkWriter = mock(SwiftCodeBulkWriter.class);
+        List<SwiftCode> writes = new ArrayList<>();
+        doAnswer(invocation -> writes.addAll(invocation.getArgument(0)))
+                .when(bulkWriter).write(anyList());
+        HeadquarterLinkingWriter writer = new HeadquarterLinkingWriter(bulkWriter, 10, 2, rows -> {
+        });
+
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGH001")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "ZYXWVUTS001")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGH002")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGHXXX")));
+        writer.accept(SwiftCodeMapper.map(row("PL", "ABCDEFGH003")));
+        writer.finish();
+
+        Map<String, SwiftCode> byCode = writes.stream()
+                .collect(Collectors.toMap(SwiftCode::getSwiftCode, Function.identity()));
+        UUID headquarterId = byCode.get("ABCDEFGHXXX").getId();
+        assertEquals(5, writes.size());
+        assertNull(byCode.get("ABCDEFGH001").getHeadquarterId());
+        assertNull(byCode.get("ABCDEFGH002").getHeadquarterId());
+        assertEquals(headquarterId, byCode.get("ABCDEFGH003").getHeadquarterId().getId());
+        verify(bulkWriter).linkBranches(Map.of("ABCDEFGH", headquarterId));
+    }
+}
@@ -0,0 +1,55 @@
+package com.remitly.service.swift_code;
+
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.service.swift_code.cache.CountryResponseCache;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CountryResponseCacheTests {
+
+    private final CountryResponseCache cache = new CountryResponseCache(2);
+
+    @Test
+    public void testGet_loadsOnlyOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("PL", () -> new byte[]{(byte) loads.incrementAndGet()});
+        byte[] result = cache.get("PL", () -> new byte[]{(byte) loads.incrementAndGet()});
+
+        assertEquals(1, loads.get());
+        assertArrayEquals(new byte[]{1}, result);
+    }
+
+    @Test
+    public void testOnCreated_evictsOnlyAffectedCountry() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("PL", () -> new byte[]{(byte) loads.incrementAndGet()});
+        cache.get("DE", () -> new byte[]{(byte) loads.incrementAndGet()});
+
+        cache.onCreated(new SwiftCodeCreatedEvent(
+                new SwiftCodeView("ABCDEFGHXXX", "address", "BANK", "PL", "POLAND", true, null)));
+
+        cache.get("PL", () -> new byte[]{(byte) loads.incrementAndGet()});
+        cache.get("DE", () -> new byte[]{(byte) loads.incrementAndGet()});
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testGet_evictsLeastRecentlyUsedOverCapacity() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("PL", () -> new byte[]{(byte) loads.incrementAndGet()});
+        cache.get("DE", () -> new byte[]{(byte) loads.incrementAndGet()});
+        cache.get("PL", () -> new byte[]{(byte) loads.incrementAndGet()});
+        cache.get("FR", () -> new byte[]{(byte) loads.incrementAndGet()});
+
+        cache.get("DE", () -> new byte[]{(byte) loads.incrementAndGet()});
+
+        assertEquals(4, loads.get());
+    }
+}
@@ -0,0 +1,50 @@
+package com.remitly.service.swift_code;
+
+import com.remitly.service.swift_code.index.LongObjectMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongObjectMapTests {
+
+    @Test
+    public void testMatchesHashMapUnderRandomOperations() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+                case 1 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+
+        long[] sum = new long[1];
+        map.forEachValue(value -> sum[0] += value);
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), sum[0]);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        LongObjectMap<String> map = new LongObjectMap<>(1);
+
+        assertEquals("a", map.computeIfAbsent(7, key -> "a"));
+        assertEquals("a", map.computeIfAbsent(7, key -> "b"));
+        assertThrows(IllegalArgumentException.class, () -> map.put(8, null));
+    }
+}
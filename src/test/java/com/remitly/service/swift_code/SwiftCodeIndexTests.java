@@ -0,0 +1,155 @@
+package com.remitly.service.swift_code;
+
+import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.index.SwiftCodeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class SwiftCodeIndexTests {
+
+    private static final SwiftCodeView HEADQUARTER = new SwiftCodeView(
+            "ABCDEFGHXXX", "address", "BANK", "PL", "POLAND", true, null);
+    private static final SwiftCodeView BRANCH = new SwiftCodeView(
+            "ABCDEFGH001", "address", "BANK", "PL", "POLAND", false, "ABCDEFGHXXX");
+
+    @Mock
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @InjectMocks
+    private SwiftCodeIndex swiftCodeIndex;
+
+    @BeforeEach
+    public void setUp() {
+        when(swiftCodeRepository.findAllLiveViews()).thenReturn(List.of(HEADQUARTER, BRANCH));
+        swiftCodeIndex.rebuild();
+    }
+
+    @Test
+    public void testFindHeadquarterWithBranches() {
+        SwiftCodeDTO result = swiftCodeIndex.find("ABCDEFGHXXX").orElseThrow();
+
+        assertTrue(result.isHeadquarter());
+        assertEquals("POLAND", result.getCountryName());
+        assertEquals(1, result.getBranches().size());
+        assertEquals("ABCDEFGH001", result.getBranches().getFirst().getSwiftCode());
+        verify(swiftCodeRepository, times(1)).findAllLiveViews();
+    }
+
+    @Test
+    public void testFindBranch_hasNoBranches() {
+        SwiftCodeDTO result = swiftCodeIndex.find("ABCDEFGH001").orElseThrow();
+
+        assertFalse(result.isHeadquarter());
+        assertTrue(result.getBranches().isEmpty());
+    }
+
+    @Test
+    public void testFind_unknownCode() {
+        assertTrue(swiftCodeIndex.find("ZZZZZZZZXXX").isEmpty());
+    }
+
+    @Test
+    public void testFindAll_skipsUnknownCodes() {
+        var result = swiftCodeIndex.findAll(List.of("ABCDEFGH001", "ZZZZZZZZXXX", "ABCDEFGHXXX"));
+
+        assertEquals(List.of("ABCDEFGH001", "ABCDEFGHXXX"), List.copyOf(result.keySet()));
+        assertEquals(1, result.get("ABCDEFGHXXX").getBranches().size());
+    }
+
+    @Test
+    public void testFindByPrefix_returnsCodesInOrder() {
+        assertEquals(List.of(BRANCH, HEADQUARTER), swiftCodeIndex.findByPrefix("ABCDEFGH", 10));
+        assertEquals(List.of(BRANCH), swiftCodeIndex.findByPrefix("ABCD", 1));
+        assertEquals(List.of(HEADQUARTER), swiftCodeIndex.findByPrefix("ABCDEFGHX", 10));
+        assertTrue(swiftCodeIndex.findByPrefix("ABCE", 10).isEmpty());
+    }
+
+    @Test
+    public void testFindByPrefix_followsCreatesAndDeletes() {
+        SwiftCodeView newBranch = new SwiftCodeView(
+                "ABCDEFGH002", "address", "BANK", "PL", "POLAND", false, "ABCDEFGHXXX");
+
+        swiftCodeIndex.onCreated(new SwiftCodeCreatedEvent(newBranch));
+        swiftCodeIndex.onDeleted(new SwiftCodeDeletedEvent(BRANCH));
+
+        assertEquals(List.of(newBranch, HEADQUARTER), swiftCodeIndex.findByPrefix("ABCDEFGH", 10));
+    }
+
+    @Test
+    public void testOnCreated_addsBranchToHeadquarter() {
+        SwiftCodeView newBranch = new SwiftCodeView(
+                "ABCDEFGH002", "address", "BANK", "PL", "POLAND", false, "ABCDEFGHXXX");
+
+        swiftCodeIndex.onCreated(new SwiftCodeCreatedEvent(newBranch));
+
+        assertTrue(swiftCodeIndex.find("ABCDEFGH002").isPresent());
+        assertEquals(2, swiftCodeIndex.find("ABCDEFGHXXX").orElseThrow().getBranches().size());
+        assertEquals(3, swiftCodeIndex.size());
+    }
+
+    @Test
+    public void testOnCreatedInBulk_appliesBatchWithoutReload() {
+        SwiftCodeView newHeadquarter = new SwiftCodeView(
+                "ZYXWVUTSXXX", "address", "BANK", "DE", "GERMANY", true, null);
+        SwiftCodeView newBranch = new SwiftCodeView(
+                "ABCDEFGH002", "address", "BANK", "PL", "POLAND", false, "ABCDEFGHXXX");
+
+        swiftCodeIndex.onCreated(new SwiftCodesCreatedEvent(List.of(newHeadquarter, newBranch)));
+
+        assertEquals(4, swiftCodeIndex.size());
+        assertEquals(2, swiftCodeIndex.find("ABCDEFGHXXX").orElseThrow().getBranches().size());
+        assertEquals(List.of(newHeadquarter), swiftCodeIndex.findByPrefix("ZYX", 10));
+        verify(swiftCodeRepository, times(1)).findAllLiveViews();
+    }
+
+    @Test
+    public void testOnDeleted_removesBranchFromHeadquarter() {
+        swiftCodeIndex.onDeleted(new SwiftCodeDeletedEvent(BRANCH));
+
+        assertTrue(swiftCodeIndex.find("ABCDEFGH001").isEmpty());
+        assertTrue(swiftCodeIndex.find("ABCDEFGHXXX").orElseThrow().getBranches().isEmpty());
+    }
+
+    @Test
+    public void testRebuild_keepsChangesAppliedWhileLoading() throws Exception {
+        SwiftCodeView newBranch = new SwiftCodeView(
+                "ABCDEFGH002", "address", "BANK", "PL", "POLAND", false, "ABCDEFGHXXX");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        when(swiftCodeRepository.findAllLiveViews()).thenAnswer(invocation -> {
+            loading.countDown();
+            committed.await();
+            // read before the changes below were committed
+            return List.of(HEADQUARTER, BRANCH);
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(swiftCodeIndex::rebuild);
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        swiftCodeIndex.onCreated(new SwiftCodeCreatedEvent(newBranch));
+        swiftCodeIndex.onDeleted(new SwiftCodeDeletedEvent(BRANCH));
+        committed.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertTrue(swiftCodeIndex.find("ABCDEFGH002").isPresent());
+        assertTrue(swiftCodeIndex.find("ABCDEFGH001").isEmpty());
+        assertEquals(List.of(newBranch, HEADQUARTER), swiftCodeIndex.findByPrefix("ABCDEFGH", 10));
+    }
+}
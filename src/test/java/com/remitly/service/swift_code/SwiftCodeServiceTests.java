@@ -4,19 +4,39 @@ import com.remitly.controller.exception.swift_code.SwiftCodeAlreadyExistsExcepti
 import com.remitly.controller.exception.swift_code.SwiftCodeNotFoundException;
 import com.remitly.controller.exception.swift_code.SwiftCodeValidationException;
 import com.remitly.controller.swift_code.dto.ResponseMessageDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkCreateDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeBulkItemDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodeDTO;
+import com.remitly.controller.swift_code.dto.SwiftCodeLookupDTO;
 import com.remitly.controller.swift_code.dto.SwiftCodesCountryISO2DTO;
 import com.remitly.dao.model.swift_code.SwiftCode;
+import com.remitly.dao.model.swift_code.SwiftCodeState;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.country.CountryRepository;
+import com.remitly.dao.repository.swift_code.SwiftCodeBulkWriter;
 import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.country.CountryRegistry;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import com.remitly.service.swift_code.index.SwiftCodeIndex;
+import com.remitly.service.swift_code.metrics.SwiftCodeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -28,31 +48,47 @@ public class SwiftCodeServiceTests {
     @Mock
     private SwiftCodeRepository swiftCodeRepository;
 
+    @Mock
+    private SwiftCodeIndex swiftCodeIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SwiftCodeBulkWriter swiftCodeBulkWriter;
+
+    @Spy
+    private CountryRegistry countryRegistry = new CountryRegistry(mock(CountryRepository.class), "");
+
+    @Spy
+    private SwiftCodeMetrics swiftCodeMetrics = new SwiftCodeMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private SwiftCodeService swiftCodeService;
 
     @Test
     public void testGetBySwiftCode() {
         String code = "BCHICLRMEXZ";
-        SwiftCode swiftCode = SwiftCode.builder()
+        SwiftCodeDTO swiftCode = SwiftCodeDTO.builder()
                 .swiftCode(code)
                 .address("address")
                 .bankName("bank")
                 .build();
 
-        when(swiftCodeRepository.findBySwiftCodeAndIsDeletedFalse(code))
+        when(swiftCodeIndex.find(code))
                 .thenReturn(Optional.of(swiftCode));
 
         SwiftCodeDTO result = swiftCodeService.getSwiftCode(code);
 
         assertNotNull(result);
         assertEquals(code, result.getSwiftCode());
+        verifyNoInteractions(swiftCodeRepository);
     }
 
     @Test
     public void testGetBySwiftCode_notFound() {
         String code = "BCHICLRMEXZ";
-        when(swiftCodeRepository.findBySwiftCodeAndIsDeletedFalse(code))
+        when(swiftCodeIndex.find(code))
                 .thenReturn(Optional.empty());
 
         var exception = assertThrows(
@@ -63,25 +99,38 @@ public class SwiftCodeServiceTests {
         assertEquals("Swift code " + code + ", not found", exception.getMessage());
     }
 
+    @Test
+    public void testLookupSwiftCodes() {
+        SwiftCodeDTO swiftCode = SwiftCodeDTO.builder()
+                .swiftCode("BCHICLRMXXX")
+                .build();
+        when(swiftCodeIndex.findAll(Set.of("BCHICLRMXXX", "ZZZZZZZZXXX")))
+                .thenReturn(Map.of("BCHICLRMXXX", swiftCode));
+
+        SwiftCodeLookupDTO result = swiftCodeService.lookupSwiftCodes(
+                List.of(" bchiclrmxxx", "BCHICLRMXXX", "ZZZZZZZZXXX"));
+
+        assertEquals(1, result.getFound().size());
+        assertEquals("BCHICLRMXXX", result.getFound().getFirst().getSwiftCode());
+        assertEquals(List.of("ZZZZZZZZXXX"), result.getMissing());
+        verifyNoInteractions(swiftCodeRepository);
+    }
+
+    @Test
+    public void testLookupSwiftCodes_empty_throwsValidationException() {
+        assertThrows(SwiftCodeValidationException.class, () -> swiftCodeService.lookupSwiftCodes(List.of()));
+        verifyNoInteractions(swiftCodeIndex);
+    }
+
     @Test
     public void testGetAllSwiftCodesByCountryISO2code() {
         String countryISO2 = "PL";
-        List<SwiftCode> swiftCodeList = new ArrayList<>(List.of(
-                SwiftCode.builder()
-                        .countryISO2("PL")
-                        .countryName("POLAND")
-                        .swiftCode("ABCDEFGHIJK")
-                        .isHeadquarter(false)
-                        .build(),
-                SwiftCode.builder()
-                        .countryISO2("PL")
-                        .countryName("POLAND")
-                        .swiftCode("AACDEFGHIJK")
-                        .isHeadquarter(false)
-                        .build()
-        ));
-
-        when(swiftCodeRepository.findByCountryISO2AndIsDeletedFalse(countryISO2))
+        List<SwiftCodeView> swiftCodeList = List.of(
+                new SwiftCodeView("AACDEFGHIJK", "address", "BANK", "PL", "POLAND", false, null),
+                new SwiftCodeView("ABCDEFGHIJK", "address", "BANK", "PL", "POLAND", false, null)
+        );
+
+        when(swiftCodeRepository.findLiveViewsByCountryISO2(countryISO2))
                 .thenReturn(swiftCodeList);
 
         SwiftCodesCountryISO2DTO result = swiftCodeService
@@ -90,7 +139,39 @@ public class SwiftCodeServiceTests {
         assertNotNull(result);
         assertEquals("POLAND", result.getCountryName());
         assertEquals("PL", result.getCountryISO2());
-        verify(swiftCodeRepository, times(1)).findByCountryISO2AndIsDeletedFalse(countryISO2);
+        assertEquals(2, result.getSwiftCodes().size());
+        verify(swiftCodeRepository, times(1)).findLiveViewsByCountryISO2(countryISO2);
+        verify(swiftCodeRepository, never()).findByCountryISO2AndIsDeletedFalse(countryISO2);
+    }
+
+    @Test
+    public void testGetSwiftCodesPageByCountryISO2code_returnsCursorForNextPage() {
+        when(swiftCodeRepository.findLiveViewsByCountryISO2After(eq("PL"), eq(""), any()))
+                .thenReturn(List.of(
+                        new SwiftCodeView("AACDEFGHIJK", "address", "BANK", "PL", "POLAND", false, null),
+                        new SwiftCodeView("ABCDEFGHIJK", "address", "BANK", "PL", "POLAND", false, null)
+                ));
+        when(swiftCodeRepository.findLiveViewsByCountryISO2After(eq("PL"), eq("AACDEFGHIJK"), any()))
+                .thenReturn(List.of(
+                        new SwiftCodeView("ABCDEFGHIJK", "address", "BANK", "PL", "POLAND", false, null)
+                ));
+
+        SwiftCodesCountryISO2DTO firstPage = swiftCodeService.getSwiftCodesPageByCountryISO2code("PL", 1, null);
+        SwiftCodesCountryISO2DTO secondPage = swiftCodeService.getSwiftCodesPageByCountryISO2code(
+                "PL", 1, firstPage.getNextCursor());
+
+        assertEquals(1, firstPage.getSwiftCodes().size());
+        assertEquals("AACDEFGHIJK", firstPage.getSwiftCodes().getFirst().getSwiftCode());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals("ABCDEFGHIJK", secondPage.getSwiftCodes().getFirst().getSwiftCode());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    public void testGetSwiftCodesPageByCountryISO2code_invalidLimit() {
+        assertThrows(SwiftCodeValidationException.class,
+                () -> swiftCodeService.getSwiftCodesPageByCountryISO2code("PL", 0, null));
+        verifyNoInteractions(swiftCodeRepository);
     }
 
     @Test
@@ -101,22 +182,19 @@ public class SwiftCodeServiceTests {
                 .countryName("Poland")
                 .countryISO2("PL")
                 .build();
-        SwiftCode entity = SwiftCode.builder()
-                .swiftCode("ABCDEFGHXXX")
-                .isHeadquarter(true)
-                .build();
-
-        when(swiftCodeRepository.save(any(SwiftCode.class)))
-                .thenReturn(entity);
 
         ResponseMessageDTO result = swiftCodeService.createSwiftCode(dto);
 
-        verify(swiftCodeRepository).save(any(SwiftCode.class));
+        verify(swiftCodeRepository).findStatesBySwiftCodeIn(Set.of("ABCDEFGHXXX"));
+        verify(swiftCodeBulkWriter).write(argThat(written -> written.size() == 1
+                && written.getFirst().getSwiftCode().equals("ABCDEFGHXXX")));
+        verify(eventPublisher).publishEvent(any(SwiftCodeCreatedEvent.class));
         assertEquals("Swift code ABCDEFGHXXX created!", result.getMessage());
     }
 
     @Test
     void testCreateSwiftCode_asBranch_withExistingHeadquarter() {
+        UUID headquarterId = UUID.randomUUID();
         SwiftCodeDTO dto = SwiftCodeDTO.builder()
                 .swiftCode("ABCDEFGH001")
                 .countryName("Poland")
@@ -124,33 +202,63 @@ public class SwiftCodeServiceTests {
                 .isHeadquarter(false)
                 .build();
 
-        SwiftCode branch = SwiftCode.builder()
+        when(swiftCodeRepository.findStatesBySwiftCodeIn(Set.of("ABCDEFGH001", "ABCDEFGHXXX")))
+                .thenReturn(List.of(new SwiftCodeState(headquarterId, "ABCDEFGHXXX", 1L, false, true)));
+
+        ResponseMessageDTO result = swiftCodeService.createSwiftCode(dto);
+
+        verify(swiftCodeBulkWriter).write(argThat(written -> headquarterId.equals(written.getFirst().getHeadquarterId().getId())));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SwiftCodeCreatedEvent created
+                && "ABCDEFGHXXX".equals(created.swiftCode().headquarterSwiftCode())));
+        verify(swiftCodeRepository, never()).save(any());
+        assertEquals("Swift code ABCDEFGH001 created!", result.getMessage());
+    }
+
+    @Test
+    void testCreateSwiftCode_asBranch_withoutHeadquarter() {
+        SwiftCodeDTO dto = SwiftCodeDTO.builder()
                 .swiftCode("ABCDEFGH001")
                 .countryName("Poland")
                 .countryISO2("PL")
                 .isHeadquarter(false)
                 .build();
 
-        SwiftCode headquarter = SwiftCode.builder()
-                .swiftCode("ABCDEFGHXXX")
+        when(swiftCodeRepository.findStatesBySwiftCodeIn(Set.of("ABCDEFGH001", "ABCDEFGHXXX")))
+                .thenReturn(List.of(new SwiftCodeState(UUID.randomUUID(), "ABCDEFGHXXX", 1L, true, true)));
+
+        ResponseMessageDTO result = swiftCodeService.createSwiftCode(dto);
+
+        // a soft-deleted headquarter is not linked
+        verify(swiftCodeBulkWriter).write(argThat(written -> written.getFirst().getHeadquarterId() == null));
+        assertEquals("Swift code ABCDEFGH001 created!", result.getMessage());
+    }
+
+    @Test
+    void testCreateSwiftCode_softDeleted_isRevived() {
+        SwiftCodeDTO dto = SwiftCodeDTO.builder()
+                .swiftCode("ABCDEFGH001")
                 .countryName("Poland")
                 .countryISO2("PL")
-                .isHeadquarter(true)
+                .isHeadquarter(false)
                 .build();
+        SwiftCodeView stored = new SwiftCodeView("ABCDEFGH001", null, null, "PL", "Poland", false, "ABCDEFGHXXX");
 
-        when(swiftCodeRepository.findBySwiftCode("ABCDEFGHXXX"))
-                .thenReturn(Optional.of(headquarter));
-        when(swiftCodeRepository.save(headquarter)).thenReturn(headquarter);
+        when(swiftCodeRepository.findStatesBySwiftCodeIn(Set.of("ABCDEFGH001", "ABCDEFGHXXX")))
+                .thenReturn(List.of(new SwiftCodeState(UUID.randomUUID(), "ABCDEFGH001", 1L, true, false)));
+        when(swiftCodeRepository.findLiveViewsBySwiftCodeIn(List.of("ABCDEFGH001"))).thenReturn(List.of(stored));
 
         ResponseMessageDTO result = swiftCodeService.createSwiftCode(dto);
 
-        verify(swiftCodeRepository).save(headquarter);
-        assertEquals("Swift code " + branch.getSwiftCode() + " created!", result.getMessage());
+        verify(swiftCodeBulkWriter).update(argThat(revived -> revived.size() == 1
+                && revived.getFirst().getSwiftCode().equals("ABCDEFGH001")));
+        verify(swiftCodeBulkWriter, never()).write(anyList());
+        verify(swiftCodeRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new SwiftCodeCreatedEvent(stored));
+        assertEquals("Swift code ABCDEFGH001 created!", result.getMessage());
     }
 
-
     @Test
-    void testCreateSwiftCode_asBranch_withoutHeadquarter() {
+    void testCreateSwiftCodes_softDeleted_isRevived() {
         SwiftCodeDTO dto = SwiftCodeDTO.builder()
                 .swiftCode("ABCDEFGH001")
                 .countryName("Poland")
@@ -158,22 +266,76 @@ public class SwiftCodeServiceTests {
                 .isHeadquarter(false)
                 .build();
 
-        SwiftCode branch = SwiftCode.builder()
+        when(swiftCodeRepository.findStatesBySwiftCodeIn(Set.of("ABCDEFGH001", "ABCDEFGHXXX")))
+                .thenReturn(List.of(new SwiftCodeState(UUID.randomUUID(), "ABCDEFGH001", 1L, true, false)));
+
+        SwiftCodeBulkCreateDTO result = swiftCodeService.createSwiftCodes(List.of(dto));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(201, result.getResults().getFirst().getStatus());
+        verify(swiftCodeBulkWriter).update(argThat(revived -> revived.size() == 1
+                && revived.getFirst().getSwiftCode().equals("ABCDEFGH001")));
+        verify(swiftCodeBulkWriter, never()).write(argThat(written -> !written.isEmpty()));
+    }
+
+    @Test
+    void testCreateSwiftCodes_reportsPerItemResults() {
+        UUID headquarterId = UUID.randomUUID();
+        SwiftCodeDTO branch = SwiftCodeDTO.builder()
                 .swiftCode("ABCDEFGH001")
                 .countryName("Poland")
                 .countryISO2("PL")
                 .isHeadquarter(false)
                 .build();
+        SwiftCodeDTO existingHeadquarter = SwiftCodeDTO.builder()
+                .swiftCode("ABCDEFGHXXX")
+                .countryName("Poland")
+                .countryISO2("PL")
+                .isHeadquarter(true)
+                .build();
+        SwiftCodeDTO invalidCountry = SwiftCodeDTO.builder()
+                .swiftCode("ABCDEFGH002")
+                .countryName("England")
+                .countryISO2("PL")
+                .isHeadquarter(false)
+                .build();
 
-        when(swiftCodeRepository.findBySwiftCode("ABCDEFGHXXX"))
-                .thenReturn(Optional.empty());
+        when(swiftCodeRepository.findStatesBySwiftCodeIn(Set.of("ABCDEFGH001", "ABCDEFGHXXX")))
+                .thenReturn(List.of(new SwiftCodeState(headquarterId, "ABCDEFGHXXX", 1L, false, true)));
+        List<SwiftCode> written = new ArrayList<>();
+        doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+                .when(swiftCodeBulkWriter).write(anyList());
+
+        SwiftCodeBulkCreateDTO result = swiftCodeService.createSwiftCodes(
+                List.of(branch, existingHeadquarter, invalidCountry, branch));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(201, 409, 400, 409),
+                result.getResults().stream().map(SwiftCodeBulkItemDTO::getStatus).toList());
+        assertEquals(1, written.size());
+        assertEquals(headquarterId, written.getFirst().getHeadquarterId().getId());
+        verify(swiftCodeRepository, times(1)).findStatesBySwiftCodeIn(anyCollection());
+        verify(swiftCodeRepository).findLiveViewsBySwiftCodeIn(List.of("ABCDEFGH001"));
+        verify(eventPublisher).publishEvent(any(SwiftCodesCreatedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(SwiftCodesReloadedEvent.class));
+    }
 
-        when(swiftCodeRepository.save(any(SwiftCode.class))).thenReturn(branch);
+    @Test
+    void testCreateSwiftCodes_rejectsNullItem() {
+        SwiftCodeDTO dto = SwiftCodeDTO.builder()
+                .swiftCode("ABCDEFGHXXX")
+                .isHeadquarter(true)
+                .build();
+        List<SwiftCodeDTO> dtos = new ArrayList<>();
+        dtos.add(dto);
+        dtos.add(null);
 
-        ResponseMessageDTO result = swiftCodeService.createSwiftCode(dto);
+        SwiftCodeValidationException exception = assertThrows(SwiftCodeValidationException.class,
+                () -> swiftCodeService.createSwiftCodes(dtos));
 
-        verify(swiftCodeRepository).save(any(SwiftCode.class));
-        assertEquals("Swift code " + branch.getSwiftCode() + " created!", result.getMessage());
+        assertEquals("Bulk create expects swift codes, found null at index 1", exception.getMessage());
+        verifyNoInteractions(swiftCodeBulkWriter, eventPublisher);
     }
 
     @Test
@@ -183,19 +345,14 @@ public class SwiftCodeServiceTests {
                 .isHeadquarter(false)
                 .build();
 
-        SwiftCode branch = SwiftCode.builder()
-                .swiftCode("ABCDEFGH001")
-                .isHeadquarter(false)
-                .build();
-
-        when(swiftCodeRepository.findBySwiftCodeAndIsDeletedFalse("ABCDEFGH001"))
-                .thenReturn(Optional.of(branch));
+        when(swiftCodeRepository.findStatesBySwiftCodeIn(Set.of("ABCDEFGH001", "ABCDEFGHXXX")))
+                .thenReturn(List.of(new SwiftCodeState(UUID.randomUUID(), "ABCDEFGH001", 1L, false, false)));
 
         var exception = assertThrows(
                 SwiftCodeAlreadyExistsException.class,
                 () -> swiftCodeService.createSwiftCode(dto));
 
-        verify(swiftCodeRepository).findBySwiftCodeAndIsDeletedFalse("ABCDEFGH001");
+        verifyNoInteractions(swiftCodeBulkWriter, eventPublisher);
         assertEquals("Swift code: ABCDEFGH001, already exists", exception.getMessage());
     }
 
@@ -207,9 +364,6 @@ public class SwiftCodeServiceTests {
                 .isHeadquarter(true)
                 .build();
 
-        when(swiftCodeRepository.findBySwiftCodeAndIsDeletedFalse(invalidSwiftCode))
-                .thenReturn(Optional.empty());
-
         SwiftCodeValidationException exception = assertThrows(
                 SwiftCodeValidationException.class,
                 () -> swiftCodeService.createSwiftCode(dto)
@@ -220,7 +374,7 @@ public class SwiftCodeServiceTests {
                 exception.getMessage()
         );
 
-        verify(swiftCodeRepository).findBySwiftCodeAndIsDeletedFalse(invalidSwiftCode);
+        verify(swiftCodeRepository).findStatesBySwiftCodeIn(Set.of(invalidSwiftCode));
         verifyNoMoreInteractions(swiftCodeRepository);
     }
 
@@ -233,15 +387,13 @@ public class SwiftCodeServiceTests {
                 .countryName("England")
                 .build();
 
-        when(swiftCodeRepository.findBySwiftCodeAndIsDeletedFalse("ABCDEFGHXXX"))
-                .thenReturn(Optional.empty());
-
         var exception = assertThrows(
                 SwiftCodeValidationException.class,
                 () -> swiftCodeService.createSwiftCode(dto)
         );
 
-        verify(swiftCodeRepository).findBySwiftCodeAndIsDeletedFalse("ABCDEFGHXXX");
+        verify(swiftCodeRepository).findStatesBySwiftCodeIn(Set.of("ABCDEFGHXXX"));
+        verifyNoInteractions(swiftCodeBulkWriter);
         assertEquals("Invalid country combination: ISO2 = 'PL', name = 'England'", exception.getMessage());
     }
 
@@ -261,6 +413,7 @@ public class SwiftCodeServiceTests {
         ResponseMessageDTO response = swiftCodeService.deleteSwiftCode(swiftCodeStr);
 
         verify(swiftCodeRepository).save(swiftCode);
+        verify(eventPublisher).publishEvent(any(SwiftCodeDeletedEvent.class));
         assertTrue(swiftCode.isDeleted());
         assertEquals("Swift code ABCDEFGHXXX deleted!", response.getMessage());
     }
@@ -282,6 +435,7 @@ public class SwiftCodeServiceTests {
         );
 
         verify(swiftCodeRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
         assertEquals("Swift code " + swiftCodeStr + ", not found", exception.getMessage());
     }
 }
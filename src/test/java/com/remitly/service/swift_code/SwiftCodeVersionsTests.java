@@ -0,0 +1,96 @@
+package com.remitly.service.swift_code;
+
+import com.remitly.dao.datasource.ReadYourWritesListener;
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.service.swift_code.cache.CountryResponseCache;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.event.SwiftCodesReloadedEvent;
+import com.remitly.service.swift_code.index.SwiftCodeIndex;
+import com.remitly.service.swift_code.search.TrigramSearchIndex;
+import com.remitly.service.swift_code.version.SwiftCodeVersions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SwiftCodeVersionsTests {
+
+    private final SwiftCodeVersions versions = new SwiftCodeVersions();
+
+    @Test
+    public void testOnCreated_changesOnlyAffectedTags() {
+        String dataset = versions.datasetTag();
+        String poland = versions.countryTag("PL");
+        String germany = versions.countryTag("DE");
+        String headquarter = versions.swiftCodeTag("ABCDEFGHXXX");
+        String otherBank = versions.swiftCodeTag("ZYXWVUTSXXX");
+
+        versions.onCreated(new SwiftCodeCreatedEvent(
+                new SwiftCodeView("ABCDEFGH001", "address", "BANK", "PL", "POLAND", false, "ABCDEFGHXXX")));
+
+        assertNotEquals(dataset, versions.datasetTag());
+        assertNotEquals(poland, versions.countryTag("PL"));
+        assertNotEquals(headquarter, versions.swiftCodeTag("ABCDEFGHXXX"));
+        assertEquals(germany, versions.countryTag("DE"));
+        assertEquals(otherBank, versions.swiftCodeTag("ZYXWVUTSXXX"));
+    }
+
+    @Test
+    public void testOnDeleted_neverReturnsToEarlierTag() {
+        SwiftCodeView view = new SwiftCodeView("ABCDEFGHXXX", "address", "BANK", "PL", "POLAND", true, null);
+        String beforeCreate = versions.swiftCodeTag("ABCDEFGHXXX");
+        versions.onCreated(new SwiftCodeCreatedEvent(view));
+        String afterCreate = versions.swiftCodeTag("ABCDEFGHXXX");
+
+        versions.onDeleted(new SwiftCodeDeletedEvent(view));
+
+        assertNotEquals(beforeCreate, versions.swiftCodeTag("ABCDEFGHXXX"));
+        assertNotEquals(afterCreate, versions.swiftCodeTag("ABCDEFGHXXX"));
+    }
+
+    @Test
+    public void testOnReloaded_changesEveryTag() {
+        versions.onCreated(new SwiftCodeCreatedEvent(
+                new SwiftCodeView("ABCDEFGHXXX", "address", "BANK", "PL", "POLAND", true, null)));
+        String poland = versions.countryTag("PL");
+        String germany = versions.countryTag("DE");
+        String swiftCode = versions.swiftCodeTag("ABCDEFGHXXX");
+
+        versions.onReloaded(new SwiftCodesReloadedEvent());
+
+        assertNotEquals(poland, versions.countryTag("PL"));
+        assertNotEquals(germany, versions.countryTag("DE"));
+        assertNotEquals(swiftCode, versions.swiftCodeTag("ABCDEFGHXXX"));
+    }
+
+    @Test
+    public void testListenerOrder_versionsBumpedAfterReadModels() {
+        List<Integer> readYourWrites = listenerOrders(ReadYourWritesListener.class);
+        List<Integer> readModels = Stream.of(SwiftCodeIndex.class, TrigramSearchIndex.class, CountryResponseCache.class)
+                .flatMap(type -> listenerOrders(type).stream())
+                .toList();
+        List<Integer> versions = listenerOrders(SwiftCodeVersions.class);
+
+        assertEquals(4, readYourWrites.size());
+        assertEquals(12, readModels.size());
+        assertEquals(4, versions.size());
+        assertTrue(Collections.max(readYourWrites) < Collections.min(readModels));
+        assertTrue(Collections.max(readModels) < Collections.min(versions));
+    }
+
+    private static List<Integer> listenerOrders(Class<?> type) {
+        return Arrays.stream(type.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(TransactionalEventListener.class))
+                .map(method -> new TransactionalApplicationListenerMethodAdapter(type.getSimpleName(), type, method).getOrder())
+                .toList();
+    }
+}
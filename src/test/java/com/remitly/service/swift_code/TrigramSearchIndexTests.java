@@ -0,0 +1,98 @@
+package com.remitly.service.swift_code;
+
+import com.remitly.dao.model.swift_code.SwiftCodeView;
+import com.remitly.dao.repository.swift_code.SwiftCodeRepository;
+import com.remitly.service.swift_code.event.SwiftCodeCreatedEvent;
+import com.remitly.service.swift_code.event.SwiftCodeDeletedEvent;
+import com.remitly.service.swift_code.search.TrigramSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class TrigramSearchIndexTests {
+
+    private static final SwiftCodeView PKO = new SwiftCodeView(
+            "BPKOPLPWXXX", "PULAWSKA 15 WARSZAWA", "PKO BANK POLSKI S.A.", "PL", "POLAND", true, null);
+    private static final SwiftCodeView PEKAO = new SwiftCodeView(
+            "PKOPPLPWXXX", "GRZYBOWSKA 53/57 WARSZAWA", "BANK PEKAO SA", "PL", "POLAND", true, null);
+    private static final SwiftCodeView RIGA = new SwiftCodeView(
+            "IDXOLV22XXX", "ELIZABETES STREET 13-1A RIGA", "INDEXO BANKA AS", "LV", "LATVIA", true, null);
+
+    @Mock
+    private SwiftCodeRepository swiftCodeRepository;
+
+    @InjectMocks
+    private TrigramSearchIndex trigramSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        when(swiftCodeRepository.findAllLiveViews()).thenReturn(List.of(PKO, PEKAO, RIGA));
+        trigramSearchIndex.rebuild();
+    }
+
+    @Test
+    public void testSearch_ranksMisspelledBankNameFirst() {
+        var matches = trigramSearchIndex.search("pko bank polsky", 10, 0.2);
+
+        assertFalse(matches.isEmpty());
+        assertEquals("BPKOPLPWXXX", matches.getFirst().swiftCode().swiftCode());
+        assertTrue(matches.stream().noneMatch(match -> match.swiftCode().equals(RIGA)));
+    }
+
+    @Test
+    public void testSearch_matchesAddress() {
+        var matches = trigramSearchIndex.search("elizabetes riga", 10, 0.2);
+
+        assertEquals(List.of(RIGA), matches.stream().map(TrigramSearchIndex.Match::swiftCode).toList());
+    }
+
+    @Test
+    public void testSearch_followsCreatesAndDeletes() {
+        SwiftCodeView created = new SwiftCodeView(
+                "MBANPLPWXXX", "PROSTA 18 WARSZAWA", "MBANK SA", "PL", "POLAND", true, null);
+
+        trigramSearchIndex.onCreated(new SwiftCodeCreatedEvent(created));
+        trigramSearchIndex.onDeleted(new SwiftCodeDeletedEvent(PKO));
+
+        assertEquals("MBANPLPWXXX", trigramSearchIndex.search("mbank", 1, 0.2).getFirst().swiftCode().swiftCode());
+        assertTrue(trigramSearchIndex.search("pko bank polski", 10, 0.2).stream()
+                .noneMatch(match -> match.swiftCode().equals(PKO)));
+    }
+
+    @Test
+    public void testRebuild_keepsChangesAppliedWhileLoading() throws Exception {
+        SwiftCodeView created = new SwiftCodeView(
+                "MBANPLPWXXX", "PROSTA 18 WARSZAWA", "MBANK SA", "PL", "POLAND", true, null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        when(swiftCodeRepository.findAllLiveViews()).thenAnswer(invocation -> {
+            loading.countDown();
+            committed.await();
+            // read before the changes below were committed
+            return List.of(PKO, PEKAO, RIGA);
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(trigramSearchIndex::rebuild);
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        trigramSearchIndex.onCreated(new SwiftCodeCreatedEvent(created));
+        trigramSearchIndex.onDeleted(new SwiftCodeDeletedEvent(PKO));
+        committed.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertEquals("MBANPLPWXXX", trigramSearchIndex.search("mbank", 1, 0.2).getFirst().swiftCode().swiftCode());
+        assertTrue(trigramSearchIndex.search("pko bank polski", 10, 0.2).stream()
+                .noneMatch(match -> match.swiftCode().equals(PKO)));
+    }
+}